@@ -0,0 +1,220 @@
+package com.sms.analytics;
+
+import com.sms.dto.DepartmentSummaryDTO;
+import com.sms.dto.EnrollmentCountDTO;
+import com.sms.dto.TeacherLoadDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable columnar copy of students, teachers, courses and enrollments.
+ *
+ * Every table is a set of parallel primitive arrays indexed by row, with string
+ * columns dictionary-encoded, so group-by queries are tight loops over int arrays
+ * that can be split across cores without touching the database.
+ */
+public class AnalyticsSnapshot {
+
+    private static final int CHUNK_SIZE = 1 << 15;
+
+    final Dictionary programs;
+    final Dictionary years;
+    final Dictionary departments;
+
+    // students
+    final int studentCount;
+    final int[] studentProgram;
+    final int[] studentYear;
+    final int[] studentEnrollments;
+
+    // teachers
+    final int teacherCount;
+    final String[] teacherCodes;
+    final String[] teacherNames;
+    final int[] teacherDepartment;
+
+    // courses
+    final int courseCount;
+    final int[] courseTeacher;
+    final int[] courseEnrollments;
+
+    final long enrollmentCount;
+    final LocalDateTime loadedAt;
+
+    AnalyticsSnapshot(Dictionary programs, Dictionary years, Dictionary departments,
+                      int studentCount, int[] studentProgram, int[] studentYear, int[] studentEnrollments,
+                      int teacherCount, String[] teacherCodes, String[] teacherNames, int[] teacherDepartment,
+                      int courseCount, int[] courseTeacher, int[] courseEnrollments,
+                      long enrollmentCount, LocalDateTime loadedAt) {
+        this.programs = programs;
+        this.years = years;
+        this.departments = departments;
+        this.studentCount = studentCount;
+        this.studentProgram = studentProgram;
+        this.studentYear = studentYear;
+        this.studentEnrollments = studentEnrollments;
+        this.teacherCount = teacherCount;
+        this.teacherCodes = teacherCodes;
+        this.teacherNames = teacherNames;
+        this.teacherDepartment = teacherDepartment;
+        this.courseCount = courseCount;
+        this.courseTeacher = courseTeacher;
+        this.courseEnrollments = courseEnrollments;
+        this.enrollmentCount = enrollmentCount;
+        this.loadedAt = loadedAt;
+    }
+
+    static AnalyticsSnapshot empty() {
+        return new AnalyticsSnapshot(new Dictionary(), new Dictionary(), new Dictionary(),
+                0, new int[0], new int[0], new int[0],
+                0, new String[0], new String[0], new int[0],
+                0, new int[0], new int[0], 0, null);
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getTeacherCount() {
+        return teacherCount;
+    }
+
+    public int getCourseCount() {
+        return courseCount;
+    }
+
+    public long getEnrollmentCount() {
+        return enrollmentCount;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Students and enrollments grouped by program and year. Either filter may be null.
+     */
+    public List<EnrollmentCountDTO> enrollmentsByProgramAndYear(String program, String year) {
+        int programFilter = program == null ? Dictionary.MISSING : programs.lookup(program);
+        int yearFilter = year == null ? Dictionary.MISSING : years.lookup(year);
+        if ((program != null && programFilter == Dictionary.MISSING)
+                || (year != null && yearFilter == Dictionary.MISSING)) {
+            return List.of();
+        }
+
+        int yearCount = years.size();
+        int groups = programs.size() * yearCount;
+        IntPredicate filter = row -> (program == null || studentProgram[row] == programFilter)
+                && (year == null || studentYear[row] == yearFilter);
+        IntUnaryOperator groupOf = row -> studentProgram[row] * yearCount + studentYear[row];
+
+        long[] students = groupSum(studentCount, groups, filter, groupOf, row -> 1);
+        long[] enrollments = groupSum(studentCount, groups, filter, groupOf, row -> studentEnrollments[row]);
+
+        List<EnrollmentCountDTO> result = new ArrayList<>();
+        for (int group = 0; group < groups; group++) {
+            if (students[group] > 0) {
+                result.add(new EnrollmentCountDTO(programs.decode(group / yearCount),
+                        years.decode(group % yearCount), students[group], enrollments[group]));
+            }
+        }
+        result.sort(Comparator.comparing(EnrollmentCountDTO::getProgram).thenComparing(EnrollmentCountDTO::getYear));
+        return result;
+    }
+
+    /**
+     * Courses taught and students enrolled per teacher, optionally limited to one department.
+     */
+    public List<TeacherLoadDTO> teacherLoad(String department) {
+        int departmentFilter = department == null ? Dictionary.MISSING : departments.lookup(department);
+        if (department != null && departmentFilter == Dictionary.MISSING) {
+            return List.of();
+        }
+
+        IntPredicate filter = row -> courseTeacher[row] >= 0
+                && (department == null || teacherDepartment[courseTeacher[row]] == departmentFilter);
+        IntUnaryOperator groupOf = row -> courseTeacher[row];
+
+        long[] courses = groupSum(courseCount, teacherCount, filter, groupOf, row -> 1);
+        long[] students = groupSum(courseCount, teacherCount, filter, groupOf, row -> courseEnrollments[row]);
+
+        List<TeacherLoadDTO> result = new ArrayList<>();
+        for (int teacher = 0; teacher < teacherCount; teacher++) {
+            if (department == null || teacherDepartment[teacher] == departmentFilter) {
+                result.add(new TeacherLoadDTO(teacherCodes[teacher], teacherNames[teacher],
+                        departments.decode(teacherDepartment[teacher]), courses[teacher], students[teacher]));
+            }
+        }
+        result.sort(Comparator.comparingLong(TeacherLoadDTO::getCourses).reversed()
+                .thenComparing(TeacherLoadDTO::getTeacherId));
+        return result;
+    }
+
+    /**
+     * Teachers, courses and enrollments per department. Courses without a teacher are not counted.
+     */
+    public List<DepartmentSummaryDTO> departmentTotals() {
+        int groups = departments.size();
+        long[] teachers = groupSum(teacherCount, groups, row -> true, row -> teacherDepartment[row], row -> 1);
+
+        IntPredicate assigned = row -> courseTeacher[row] >= 0;
+        IntUnaryOperator departmentOf = row -> teacherDepartment[courseTeacher[row]];
+        long[] courses = groupSum(courseCount, groups, assigned, departmentOf, row -> 1);
+        long[] enrollments = groupSum(courseCount, groups, assigned, departmentOf, row -> courseEnrollments[row]);
+
+        List<DepartmentSummaryDTO> result = new ArrayList<>(groups);
+        for (int department = 0; department < groups; department++) {
+            result.add(new DepartmentSummaryDTO(departments.decode(department),
+                    teachers[department], courses[department], enrollments[department]));
+        }
+        result.sort(Comparator.comparing(DepartmentSummaryDTO::getDepartment));
+        return result;
+    }
+
+    /**
+     * Sums {@code weight(row)} into {@code groupOf(row)} for every row accepted by the
+     * filter. Rows are split into fixed-size chunks scanned in parallel, each into its
+     * own partial array, and the partials are added together at the end.
+     * Rows whose group is negative are skipped.
+     */
+    static long[] groupSum(int rows, int groups, IntPredicate filter,
+                           IntUnaryOperator groupOf, IntUnaryOperator weight) {
+        int chunks = (rows + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunks == 0 || groups == 0) {
+            return new long[groups];
+        }
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    long[] partial = new long[groups];
+                    int end = Math.min(rows, (chunk + 1) * CHUNK_SIZE);
+                    for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                        if (filter.test(row)) {
+                            int group = groupOf.applyAsInt(row);
+                            if (group >= 0) {
+                                partial[group] += weight.applyAsInt(row);
+                            }
+                        }
+                    }
+                    return partial;
+                })
+                .reduce((left, right) -> {
+                    for (int i = 0; i < left.length; i++) {
+                        left[i] += right[i];
+                    }
+                    return left;
+                })
+                .orElseGet(() -> new long[groups]);
+    }
+
+    static int[] trim(int[] values, int size) {
+        return values.length == size ? values : Arrays.copyOf(values, size);
+    }
+}
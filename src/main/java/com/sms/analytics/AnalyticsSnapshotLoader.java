@@ -0,0 +1,155 @@
+package com.sms.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Periodically copies the enrollment tables into a fresh {@link AnalyticsSnapshot}.
+ * Each refresh is four sequential scans over plain JDBC, and readers keep using the
+ * previous snapshot until the new one is swapped in. The scans run in a read-only
+ * transaction, so they are served by a replica when read/write routing is enabled.
+ */
+@Component
+public class AnalyticsSnapshotLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsSnapshotLoader.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile AnalyticsSnapshot snapshot = AnalyticsSnapshot.empty();
+
+    public AnalyticsSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Scheduled(initialDelayString = "${sms.analytics.initial-delay-ms:10000}",
+            fixedDelayString = "${sms.analytics.refresh-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // Readers keep the previous snapshot until the next attempt
+            logger.error("Analytics snapshot refresh failed", e);
+        }
+    }
+
+    /**
+     * Loads and swaps in a new snapshot. On failure the exception propagates and the
+     * previous snapshot stays in place.
+     */
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        snapshot = load();
+        logger.info("Analytics snapshot loaded: {} students, {} teachers, {} courses, {} enrollments in {} ms",
+                snapshot.studentCount, snapshot.teacherCount, snapshot.courseCount,
+                snapshot.enrollmentCount, System.currentTimeMillis() - start);
+    }
+
+    private AnalyticsSnapshot load() {
+        Dictionary programs = new Dictionary();
+        Dictionary years = new Dictionary();
+        Dictionary departments = new Dictionary();
+
+        LongColumn studentIds = new LongColumn();
+        IntColumn studentProgram = new IntColumn();
+        IntColumn studentYear = new IntColumn();
+        jdbcTemplate.query("SELECT id, program, year FROM students ORDER BY id", rs -> {
+            studentIds.add(rs.getLong(1));
+            studentProgram.add(programs.encode(rs.getString(2)));
+            studentYear.add(years.encode(rs.getString(3)));
+        });
+
+        LongColumn teacherIds = new LongColumn();
+        List<String> teacherCodes = new ArrayList<>();
+        List<String> teacherNames = new ArrayList<>();
+        IntColumn teacherDepartment = new IntColumn();
+        jdbcTemplate.query("SELECT t.id, t.teacher_id, u.name, t.department FROM teachers t " +
+                "JOIN users u ON u.id = t.id ORDER BY t.id", rs -> {
+            teacherIds.add(rs.getLong(1));
+            teacherCodes.add(rs.getString(2));
+            teacherNames.add(rs.getString(3));
+            teacherDepartment.add(departments.encode(rs.getString(4)));
+        });
+
+        long[] sortedTeacherIds = teacherIds.toArray();
+        LongColumn courseIds = new LongColumn();
+        IntColumn courseTeacher = new IntColumn();
+        jdbcTemplate.query("SELECT id, teacher_id FROM courses ORDER BY id", rs -> {
+            courseIds.add(rs.getLong(1));
+            long teacherId = rs.getLong(2);
+            courseTeacher.add(rs.wasNull() ? -1 : indexOf(sortedTeacherIds, teacherId));
+        });
+
+        long[] sortedStudentIds = studentIds.toArray();
+        long[] sortedCourseIds = courseIds.toArray();
+        int[] studentEnrollments = new int[sortedStudentIds.length];
+        int[] courseEnrollments = new int[sortedCourseIds.length];
+        long[] enrollmentCount = new long[1];
+        jdbcTemplate.query("SELECT student_id, course_id FROM student_courses", rs -> {
+            int student = indexOf(sortedStudentIds, rs.getLong(1));
+            int course = indexOf(sortedCourseIds, rs.getLong(2));
+            if (student >= 0 && course >= 0) {
+                studentEnrollments[student]++;
+                courseEnrollments[course]++;
+                enrollmentCount[0]++;
+            }
+        });
+
+        return new AnalyticsSnapshot(programs, years, departments,
+                sortedStudentIds.length, studentProgram.toArray(), studentYear.toArray(), studentEnrollments,
+                sortedTeacherIds.length, teacherCodes.toArray(new String[0]), teacherNames.toArray(new String[0]),
+                teacherDepartment.toArray(),
+                sortedCourseIds.length, courseTeacher.toArray(), courseEnrollments,
+                enrollmentCount[0], LocalDateTime.now());
+    }
+
+    private static int indexOf(long[] sortedIds, long id) {
+        int index = Arrays.binarySearch(sortedIds, id);
+        return index < 0 ? -1 : index;
+    }
+
+    private static final class IntColumn {
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return AnalyticsSnapshot.trim(values, size);
+        }
+    }
+
+    private static final class LongColumn {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
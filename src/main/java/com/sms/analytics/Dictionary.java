@@ -0,0 +1,45 @@
+package com.sms.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for low-cardinality string columns such as program, year and
+ * department. Values are stored once and rows refer to them by int code.
+ */
+public class Dictionary {
+
+    public static final int MISSING = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    public int encode(String value) {
+        String key = value == null ? "" : value;
+        Integer code = codes.get(key);
+        if (code == null) {
+            code = values.size();
+            codes.put(key, code);
+            values.add(key);
+        }
+        return code;
+    }
+
+    /**
+     * Returns the code for an existing value, or {@link #MISSING} if no row has it.
+     */
+    public int lookup(String value) {
+        Integer code = codes.get(value == null ? "" : value);
+        return code == null ? MISSING : code;
+    }
+
+    public String decode(int code) {
+        return values.get(code);
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
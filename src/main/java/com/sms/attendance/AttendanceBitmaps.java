@@ -0,0 +1,27 @@
+package com.sms.attendance;
+
+import java.util.BitSet;
+
+/**
+ * Storage form of attendance bitmaps: bit {@code i} stands for the student with roster
+ * index {@code i} in the session's course. Indices are dense from zero, so a plain word
+ * bitmap is already compact (a 300-seat hall fits in 38 bytes) and trailing empty words
+ * are not stored.
+ */
+public final class AttendanceBitmaps {
+
+    // Bytes the varbinary columns hold, i.e. 65536 roster entries per course
+    public static final int MAX_BYTES = 8192;
+    public static final int MAX_STUDENTS = MAX_BYTES * 8;
+
+    private AttendanceBitmaps() {
+    }
+
+    public static BitSet decode(byte[] stored) {
+        return stored == null ? new BitSet() : BitSet.valueOf(stored);
+    }
+
+    public static byte[] encode(BitSet bits) {
+        return bits.toByteArray();
+    }
+}
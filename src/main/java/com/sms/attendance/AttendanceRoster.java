@@ -0,0 +1,101 @@
+package com.sms.attendance;
+
+import com.sms.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Numbers each course's students from zero, in the order they first appear in an
+ * attendance session. A number is never reused or reassigned, so bitmaps recorded before
+ * a student left the course still read correctly.
+ *
+ * New numbers are only handed out by {@link #assign}, which takes the course row lock, so
+ * two sessions of the same course cannot give out the same number.
+ */
+@Component
+public class AttendanceRoster {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public Map<Long, Integer> indicesOf(long courseId, Collection<Long> studentIds) {
+        Map<Long, Integer> indices = new HashMap<>();
+        if (studentIds.isEmpty()) {
+            return indices;
+        }
+        namedJdbcTemplate.query(
+                "SELECT student_id, roster_index FROM attendance_roster WHERE course_id = :course AND student_id IN (:students)",
+                new MapSqlParameterSource("course", courseId).addValue("students", studentIds),
+                rs -> {
+                    indices.put(rs.getLong("student_id"), rs.getInt("roster_index"));
+                });
+        return indices;
+    }
+
+    public List<Long> enrolledStudents(long courseId) {
+        return jdbcTemplate.queryForList("SELECT student_id FROM student_courses WHERE course_id = ?", Long.class, courseId);
+    }
+
+    public Set<Long> enrolledAmong(long courseId, Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT student_id FROM student_courses WHERE course_id = :course AND student_id IN (:students)",
+                new MapSqlParameterSource("course", courseId).addValue("students", studentIds), Long.class));
+    }
+
+    /**
+     * Serializes roster changes and session creation for one course until the transaction
+     * ends.
+     */
+    public void lockCourse(long courseId) {
+        List<Long> locked = jdbcTemplate.queryForList("SELECT id FROM courses WHERE id = ? FOR UPDATE", Long.class, courseId);
+        if (locked.isEmpty()) {
+            throw ErrorCode.COURSE_NOT_FOUND.exception("Course not found with id: " + courseId);
+        }
+    }
+
+    /**
+     * Returns the roster index of every given student, numbering those that have none yet.
+     * Call with the course locked.
+     */
+    public Map<Long, Integer> assign(long courseId, Collection<Long> studentIds) {
+        Map<Long, Integer> indices = indicesOf(courseId, studentIds);
+        List<Object[]> inserts = new ArrayList<>();
+        Integer max = jdbcTemplate.queryForObject(
+                "SELECT MAX(roster_index) FROM attendance_roster WHERE course_id = ?", Integer.class, courseId);
+        int next = max == null ? 0 : max + 1;
+        for (Long studentId : new TreeSet<>(studentIds)) {
+            if (indices.containsKey(studentId)) {
+                continue;
+            }
+            if (next >= AttendanceBitmaps.MAX_STUDENTS) {
+                throw ErrorCode.BUSINESS_RULE.exception("Course " + courseId + " has reached the attendance roster limit");
+            }
+            indices.put(studentId, next);
+            inserts.add(new Object[]{courseId, studentId, next});
+            next++;
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO attendance_roster (course_id, student_id, roster_index) VALUES (?, ?, ?)", inserts);
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sms.attendance;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Counts, for every bit position at once, how many of the added bitmaps had it set.
+ * Counters are stored transposed: plane {@code k} holds bit {@code k} of every counter,
+ * so adding a bitmap is a ripple-carry addition done with whole-word AND and XOR, and a
+ * term of sessions costs a few word operations per session instead of a visit per student.
+ */
+public final class BitSlicedCounter {
+
+    private final List<BitSet> planes = new ArrayList<>();
+
+    public void add(BitSet bits) {
+        BitSet carry = (BitSet) bits.clone();
+        for (int k = 0; !carry.isEmpty(); k++) {
+            if (k == planes.size()) {
+                planes.add(new BitSet());
+            }
+            BitSet plane = planes.get(k);
+            BitSet carryOut = (BitSet) plane.clone();
+            carryOut.and(carry);
+            plane.xor(carry);
+            carry = carryOut;
+        }
+    }
+
+    public int count(int index) {
+        int count = 0;
+        for (int k = 0; k < planes.size(); k++) {
+            if (planes.get(k).get(index)) {
+                count |= 1 << k;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sms.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Loads values by key through one batch function and remembers what it loaded, including
+ * keys that were not found. Asking for many keys runs one query for all of those not seen
+ * yet, so code that resolves IDs one at a time can first hand the whole set over and then
+ * read each from memory.
+ *
+ * Instances come from {@link RequestLoaders} and live for one request; they are not
+ * thread-safe.
+ */
+public final class BatchLoader<K, V> {
+
+    // Keeps IN lists well inside driver and optimizer limits
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    // A null value marks a key that was looked up and not found
+    private final Map<K, V> loaded = new HashMap<>();
+
+    BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    public Optional<V> load(K key) {
+        return Optional.ofNullable(loadMany(List.of(key)).get(key));
+    }
+
+    /**
+     * Returns the values found for {@code keys}, in their order; missing keys are left out.
+     */
+    public Map<K, V> loadMany(Collection<K> keys) {
+        Set<K> unseen = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key != null && !loaded.containsKey(key)) {
+                unseen.add(key);
+            }
+        }
+        if (!unseen.isEmpty()) {
+            List<K> pending = new ArrayList<>(unseen);
+            for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE) {
+                List<K> batch = pending.subList(from, Math.min(from + MAX_BATCH_SIZE, pending.size()));
+                Map<K, V> found = batchFunction.apply(batch);
+                for (K key : batch) {
+                    loaded.put(key, found.get(key));
+                }
+            }
+        }
+
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = key == null ? null : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+}
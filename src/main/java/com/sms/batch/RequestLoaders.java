@@ -0,0 +1,93 @@
+package com.sms.batch;
+
+import com.sms.model.Course;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hands out the {@link BatchLoader}s of the current request, one per lookup, so every
+ * service that resolves the same kind of ID within a request shares the queries already
+ * made. Entities are loaded into the request's persistence context, so lazy references to
+ * them resolve without a query of their own.
+ *
+ * Outside a request (schedulers, async dispatch) each call gets a fresh loader: it still
+ * batches, but remembers nothing between calls.
+ */
+@Component
+public class RequestLoaders {
+
+    private static final String ATTRIBUTE_PREFIX = RequestLoaders.class.getName() + ".";
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    public BatchLoader<Long, Teacher> teachersById() {
+        return forRequest("teachersById", ids -> index(teacherRepository.findAllById(ids), Teacher::getId));
+    }
+
+    public BatchLoader<String, Teacher> teachersByTeacherId() {
+        return forRequest("teachersByTeacherId",
+                teacherIds -> index(teacherRepository.findByTeacherIdIn(teacherIds), Teacher::getTeacherId));
+    }
+
+    public BatchLoader<Long, Student> studentsById() {
+        return forRequest("studentsById",
+                ids -> index(studentRepository.findWithCoursesByIdIn(ids), Student::getId));
+    }
+
+    public BatchLoader<String, Student> studentsByStudentId() {
+        return forRequest("studentsByStudentId",
+                studentIds -> index(studentRepository.findWithCoursesByStudentIdIn(studentIds), Student::getStudentId));
+    }
+
+    public BatchLoader<Long, Course> coursesById() {
+        return forRequest("coursesById",
+                ids -> index(courseRepository.findWithTeacherAndSchedulesByIdIn(ids), Course::getId));
+    }
+
+    public BatchLoader<String, Course> coursesByCode() {
+        return forRequest("coursesByCode",
+                codes -> index(courseRepository.findWithTeacherAndSchedulesByCodeIn(codes), Course::getCode));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> BatchLoader<K, V> forRequest(String name, Function<Collection<K>, Map<K, V>> batchFunction) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new BatchLoader<>(batchFunction);
+        }
+        String attribute = ATTRIBUTE_PREFIX + name;
+        BatchLoader<K, V> loader = (BatchLoader<K, V>) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (loader == null) {
+            loader = new BatchLoader<>(batchFunction);
+            attributes.setAttribute(attribute, loader, RequestAttributes.SCOPE_REQUEST);
+        }
+        return loader;
+    }
+
+    private static <K, V> Map<K, V> index(Iterable<V> values, Function<V, K> keyOf) {
+        Map<K, V> byKey = new HashMap<>();
+        for (V value : values) {
+            byKey.put(keyOf.apply(value), value);
+        }
+        return byKey;
+    }
+}
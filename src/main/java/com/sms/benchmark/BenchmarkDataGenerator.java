@@ -0,0 +1,254 @@
+package com.sms.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the schema from {@code manage Setup.sql} with a deterministic dataset: the same
+ * seed and sizes always produce the same rows, so runs against a fresh database are
+ * comparable. Rows are written with plain JDBC batches; all generated accounts share
+ * one password so the load scenarios can log in as any of them.
+ *
+ * Generated rows are recognisable by their {@code bench.} email prefix and
+ * {@code BENCH} course codes, and generation is skipped when they already exist.
+ */
+@Component
+@Profile("benchmark")
+public class BenchmarkDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkDataGenerator.class);
+
+    static final String STUDENT_EMAIL_PREFIX = "bench.student";
+    static final String COURSE_CODE_PREFIX = "BENCH";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 9, 1, 8, 0);
+    private static final String[] PROGRAMS = {
+            "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology",
+            "Economics", "History", "Philosophy", "Engineering", "Statistics"
+    };
+    private static final String[] YEARS = {"1st Year", "2nd Year", "3rd Year", "4th Year"};
+    private static final String[] DAYS = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"};
+
+    private static final String INSERT_USER = "INSERT INTO users " +
+            "(id, created_at, email, name, password, role, status, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TEACHER =
+            "INSERT INTO teachers (department, teacher_id, id) VALUES (?, ?, ?)";
+    private static final String INSERT_STUDENT =
+            "INSERT INTO students (program, student_id, year, id) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_COURSE = "INSERT INTO courses " +
+            "(id, code, created_at, description, name, updated_at, teacher_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SCHEDULE =
+            "INSERT INTO schedules (day, end_time, room, start_time, course_id) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ENROLLMENT =
+            "INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)";
+    private static final String INSERT_ASSIGNMENT = "INSERT INTO assignments " +
+            "(id, created_at, description, due_date, title, total_points, updated_at, course_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUBMISSION = "INSERT INTO submissions " +
+            "(created_at, feedback, file_path, grade, submission_date, updated_at, assignment_id, student_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${sms.benchmark.seed:42}")
+    private long seed;
+
+    @Value("${sms.benchmark.password:benchmark123}")
+    private String password;
+
+    @Value("${sms.benchmark.students:50000}")
+    private int studentCount;
+
+    @Value("${sms.benchmark.teachers:400}")
+    private int teacherCount;
+
+    @Value("${sms.benchmark.courses:2000}")
+    private int courseCount;
+
+    @Value("${sms.benchmark.enrollments-per-student:5}")
+    private int enrollmentsPerStudent;
+
+    @Value("${sms.benchmark.assignments-per-course:10}")
+    private int assignmentsPerCourse;
+
+    @Value("${sms.benchmark.submissions:1000000}")
+    private int submissionCount;
+
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Generates the dataset unless it is already present, then returns the IDs of the
+     * generated rows.
+     */
+    public BenchmarkDataset generateIfMissing() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, STUDENT_EMAIL_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            logger.info("Benchmark dataset already present ({} students), skipping generation", existing);
+        } else {
+            long start = System.currentTimeMillis();
+            generate();
+            logger.info("Benchmark dataset generated in {} ms", System.currentTimeMillis() - start);
+        }
+        return loadDataset();
+    }
+
+    private void generate() {
+        Random random = new Random(seed);
+        Timestamp now = Timestamp.valueOf(BASE_TIME);
+        String hash = passwordEncoder.encode(password);
+
+        long firstUserId = nextId("users");
+        long firstTeacherId = firstUserId;
+        long firstStudentId = firstUserId + teacherCount;
+
+        List<Object[]> users = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> teachers = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < teacherCount; i++) {
+            long id = firstTeacherId + i;
+            users.add(new Object[]{id, now, "bench.teacher" + i + "@example.com", "Bench Teacher " + i,
+                    hash, "TEACHER", "ACTIVE", now});
+            teachers.add(new Object[]{PROGRAMS[random.nextInt(PROGRAMS.length)], String.format("T%07d", i), id});
+            flushIfFull(users, INSERT_USER);
+            flushIfFull(teachers, INSERT_TEACHER);
+        }
+        flush(users, INSERT_USER);
+        flush(teachers, INSERT_TEACHER);
+
+        List<Object[]> students = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < studentCount; i++) {
+            long id = firstStudentId + i;
+            users.add(new Object[]{id, now, STUDENT_EMAIL_PREFIX + i + "@example.com", "Bench Student " + i,
+                    hash, "STUDENT", "ACTIVE", now});
+            students.add(new Object[]{PROGRAMS[random.nextInt(PROGRAMS.length)], String.format("S%07d", i),
+                    YEARS[random.nextInt(YEARS.length)], id});
+            flushIfFull(users, INSERT_USER);
+            flushIfFull(students, INSERT_STUDENT);
+        }
+        flush(users, INSERT_USER);
+        flush(students, INSERT_STUDENT);
+
+        long firstCourseId = nextId("courses");
+        List<Object[]> courses = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> schedules = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < courseCount; i++) {
+            long id = firstCourseId + i;
+            long teacher = firstTeacherId + random.nextInt(teacherCount);
+            courses.add(new Object[]{id, String.format("%s%05d", COURSE_CODE_PREFIX, i), now,
+                    "Generated course " + i, "Bench Course " + i, now, teacher});
+            int hour = 8 + random.nextInt(9);
+            schedules.add(new Object[]{DAYS[random.nextInt(DAYS.length)], String.format("%02d:00:00", hour + 1),
+                    "Room " + (100 + random.nextInt(400)), String.format("%02d:00:00", hour), id});
+            flushIfFull(courses, INSERT_COURSE);
+            flushIfFull(schedules, INSERT_SCHEDULE);
+        }
+        flush(courses, INSERT_COURSE);
+        flush(schedules, INSERT_SCHEDULE);
+
+        // Each student takes distinct courses; enrolled[s] is reused to derive submissions
+        int perStudent = Math.min(enrollmentsPerStudent, courseCount);
+        int[][] enrolled = new int[studentCount][perStudent];
+        List<Object[]> enrollments = new ArrayList<>(BATCH_SIZE);
+        for (int s = 0; s < studentCount; s++) {
+            for (int c = 0; c < perStudent; c++) {
+                int course;
+                do {
+                    course = random.nextInt(courseCount);
+                } while (contains(enrolled[s], c, course));
+                enrolled[s][c] = course;
+                enrollments.add(new Object[]{firstStudentId + s, firstCourseId + course});
+                flushIfFull(enrollments, INSERT_ENROLLMENT);
+            }
+        }
+        flush(enrollments, INSERT_ENROLLMENT);
+
+        long firstAssignmentId = nextId("assignments");
+        List<Object[]> assignments = new ArrayList<>(BATCH_SIZE);
+        for (int c = 0; c < courseCount; c++) {
+            for (int a = 0; a < assignmentsPerCourse; a++) {
+                long id = firstAssignmentId + (long) c * assignmentsPerCourse + a;
+                Timestamp due = Timestamp.valueOf(BASE_TIME.plusWeeks(a + 1));
+                assignments.add(new Object[]{id, now, "Generated assignment", due, "Assignment " + (a + 1),
+                        100, now, firstCourseId + c});
+                flushIfFull(assignments, INSERT_ASSIGNMENT);
+            }
+        }
+        flush(assignments, INSERT_ASSIGNMENT);
+
+        // Submission k belongs to student k % students in round k / students; each round
+        // walks that student's (course, assignment) pairs in order, so pairs never repeat
+        long maxSubmissions = (long) studentCount * perStudent * assignmentsPerCourse;
+        long total = Math.min(submissionCount, maxSubmissions);
+        List<Object[]> submissions = new ArrayList<>(BATCH_SIZE);
+        for (long k = 0; k < total; k++) {
+            int s = (int) (k % studentCount);
+            int round = (int) (k / studentCount);
+            int course = enrolled[s][round % perStudent];
+            int assignment = round / perStudent;
+            long assignmentId = firstAssignmentId + (long) course * assignmentsPerCourse + assignment;
+            Timestamp submitted = Timestamp.valueOf(BASE_TIME.plusWeeks(assignment + 1)
+                    .minusMinutes(random.nextInt(7 * 24 * 60)));
+            Integer grade = random.nextInt(4) == 0 ? null : 40 + random.nextInt(61);
+            submissions.add(new Object[]{now, null, "uploads/bench/" + s + "/" + assignmentId + ".pdf", grade,
+                    submitted, now, assignmentId, firstStudentId + s});
+            flushIfFull(submissions, INSERT_SUBMISSION);
+        }
+        flush(submissions, INSERT_SUBMISSION);
+    }
+
+    private BenchmarkDataset loadDataset() {
+        long[] studentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, STUDENT_EMAIL_PREFIX + "%")
+                .stream().mapToLong(Long::longValue).toArray();
+        long[] courseIds = jdbcTemplate.queryForList(
+                "SELECT id FROM courses WHERE code LIKE ? ORDER BY id", Long.class, COURSE_CODE_PREFIX + "%")
+                .stream().mapToLong(Long::longValue).toArray();
+        return new BenchmarkDataset(studentIds, courseIds);
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void flushIfFull(List<Object[]> rows, String sql) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(rows, sql);
+        }
+    }
+
+    private void flush(List<Object[]> rows, String sql) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
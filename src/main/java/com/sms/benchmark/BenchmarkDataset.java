@@ -0,0 +1,41 @@
+package com.sms.benchmark;
+
+/**
+ * IDs of the generated students and courses, sorted ascending.
+ */
+public class BenchmarkDataset {
+
+    private final long[] studentIds;
+    private final long[] courseIds;
+
+    public BenchmarkDataset(long[] studentIds, long[] courseIds) {
+        this.studentIds = studentIds;
+        this.courseIds = courseIds;
+    }
+
+    public int studentCount() {
+        return studentIds.length;
+    }
+
+    public int courseCount() {
+        return courseIds.length;
+    }
+
+    /**
+     * The i-th generated student, wrapping around.
+     */
+    public long studentId(int i) {
+        return studentIds[Math.floorMod(i, studentIds.length)];
+    }
+
+    /**
+     * Index of a student in generation order; also its number in the generated email.
+     */
+    public int studentNumber(int i) {
+        return Math.floorMod(i, studentIds.length);
+    }
+
+    public long courseId(int i) {
+        return courseIds[Math.floorMod(i, courseIds.length)];
+    }
+}
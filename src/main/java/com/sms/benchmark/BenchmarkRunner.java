@@ -0,0 +1,235 @@
+package com.sms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the benchmark once the application is up: generates the dataset, runs each
+ * {@link LoadScenario} in turn with a fixed pool of workers and writes a JSON report.
+ *
+ * SQL counts come from the Hibernate statistics delta over each scenario, so they
+ * include anything else running at the time. The report also carries the
+ * {@link SerializationBenchmark} sizes and timings and the {@link MappingBenchmark} timings. When {@code baseline.json} exists in the
+ * report directory, each scenario is compared against it in the log.
+ */
+@Component
+@Profile("benchmark")
+public class BenchmarkRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkRunner.class);
+
+    @Autowired
+    private BenchmarkDataGenerator dataGenerator;
+
+    @Autowired
+    private BenchmarkScenarios scenarios;
+
+    @Autowired
+    private SerializationBenchmark serializationBenchmark;
+
+    @Autowired
+    private MappingBenchmark mappingBenchmark;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${sms.benchmark.concurrency:32}")
+    private int concurrency;
+
+    @Value("${sms.benchmark.report-dir:target/benchmark}")
+    private String reportDir;
+
+    @Value("${sms.benchmark.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        // Off the main thread so startup completes and the server keeps accepting requests
+        Thread thread = new Thread(this::runAll, "benchmark-runner");
+        thread.setDaemon(false);
+        thread.start();
+    }
+
+    private void runAll() {
+        int exitCode = 0;
+        try {
+            BenchmarkDataset dataset = dataGenerator.generateIfMissing();
+            int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            List<ScenarioResult> results = new ArrayList<>();
+            for (LoadScenario scenario : scenarios.build(baseUrl, dataset, dataGenerator.getPassword())) {
+                ScenarioResult result = execute(scenario);
+                logger.info("{}: {} ops, {} errors, {} ops/s, p50 {} ms, p99 {} ms, {} SQL/op",
+                        result.getScenario(), result.getOperations(), result.getErrors(),
+                        String.format("%.1f", result.getThroughputPerSecond()),
+                        String.format("%.2f", result.getP50Ms()), String.format("%.2f", result.getP99Ms()),
+                        String.format("%.2f", result.getSqlStatementsPerOperation()));
+                results.add(result);
+            }
+            List<SerializationResult> serialization = serializationBenchmark.run(dataset);
+            for (SerializationResult result : serialization) {
+                logger.info("{} as {}: {} bytes, {} gzipped, {} us", result.getPayload(), result.getFormat(),
+                        result.getBytes(), result.getGzipBytes(), String.format("%.1f", result.getSerializeMicros()));
+            }
+            List<MappingResult> mapping = mappingBenchmark.run();
+            for (MappingResult result : mapping) {
+                logger.info("{} with {}: {} items, {} us", result.getPayload(), result.getMapper(),
+                        result.getItems(), String.format("%.1f", result.getMapMicros()));
+            }
+            writeReport(results, serialization, mapping);
+        } catch (Exception e) {
+            logger.error("Benchmark failed", e);
+            exitCode = 1;
+        }
+        if (exitWhenDone) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+
+    private ScenarioResult execute(LoadScenario scenario) throws Exception {
+        int operations = scenario.getOperations();
+        long[] latencies = new long[operations];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < operations) {
+                        long opStart = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = scenario.getOperation().run(i);
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        latencies[i] = System.nanoTime() - opStart;
+                        if (!ok) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount() - statementsBefore;
+
+        Arrays.sort(latencies);
+        double seconds = elapsed / 1e9;
+        return new ScenarioResult(scenario.getName(), operations, errors.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                operations / seconds,
+                percentileMs(latencies, 0.50),
+                percentileMs(latencies, 0.99),
+                operations == 0 ? 0 : latencies[operations - 1] / 1e6,
+                statements,
+                operations == 0 ? 0 : (double) statements / operations);
+    }
+
+    private void writeReport(List<ScenarioResult> results, List<SerializationResult> serialization,
+                             List<MappingResult> mapping) throws Exception {
+        File dir = new File(reportDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalStateException("Cannot create report directory " + dir.getAbsolutePath());
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", LocalDateTime.now().toString());
+        report.put("concurrency", concurrency);
+        report.put("scenarios", results);
+        report.put("serialization", serialization);
+        report.put("mapping", mapping);
+
+        ObjectMapper writer = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        String name = "report-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        writer.writeValue(new File(dir, name), report);
+        writer.writeValue(new File(dir, "latest.json"), report);
+        logger.info("Benchmark report written to {}", new File(dir, name).getAbsolutePath());
+
+        File baseline = new File(dir, "baseline.json");
+        if (baseline.isFile()) {
+            compare(results, baseline);
+        }
+    }
+
+    private void compare(List<ScenarioResult> results, File baselineFile) throws Exception {
+        Map<String, ScenarioResult> baseline = new HashMap<>();
+        for (JsonNode node : objectMapper.readTree(baselineFile).path("scenarios")) {
+            ScenarioResult result = objectMapper.treeToValue(node, ScenarioResult.class);
+            baseline.put(result.getScenario(), result);
+        }
+        for (ScenarioResult result : results) {
+            ScenarioResult before = baseline.get(result.getScenario());
+            if (before != null) {
+                logger.info("{} vs baseline: throughput {}, p99 {}, SQL/op {}", result.getScenario(),
+                        change(before.getThroughputPerSecond(), result.getThroughputPerSecond()),
+                        change(before.getP99Ms(), result.getP99Ms()),
+                        change(before.getSqlStatementsPerOperation(), result.getSqlStatementsPerOperation()));
+            }
+        }
+    }
+
+    private static String change(double before, double after) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+
+    private static double percentileMs(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,160 @@
+package com.sms.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.model.Assignment;
+import com.sms.model.Submission;
+import com.sms.repository.AssignmentRepository;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The scripted workloads: login storm, registration rush, student dashboard reads and a
+ * submission burst at an assignment deadline. HTTP scenarios go through the running
+ * server; the submission burst writes through the repositories because the API has no
+ * submission endpoint yet.
+ */
+@Component
+@Profile("benchmark")
+public class BenchmarkScenarios {
+
+    private static final int DASHBOARD_SESSIONS = 16;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Value("${sms.benchmark.scenario.login-storm:2000}")
+    private int loginStormOperations;
+
+    @Value("${sms.benchmark.scenario.registration-rush:1000}")
+    private int registrationRushOperations;
+
+    @Value("${sms.benchmark.scenario.dashboard-reads:10000}")
+    private int dashboardReadOperations;
+
+    @Value("${sms.benchmark.scenario.submission-burst:5000}")
+    private int submissionBurstOperations;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public List<LoadScenario> build(String baseUrl, BenchmarkDataset dataset, String password) throws Exception {
+        return List.of(
+                loginStorm(baseUrl, dataset, password),
+                registrationRush(baseUrl),
+                dashboardReads(baseUrl, dataset, password),
+                submissionBurst(dataset));
+    }
+
+    private LoadScenario loginStorm(String baseUrl, BenchmarkDataset dataset, String password) {
+        return new LoadScenario("login-storm", loginStormOperations,
+                i -> login(baseUrl, studentEmail(dataset, i), password) != null);
+    }
+
+    private LoadScenario registrationRush(String baseUrl) {
+        // Run-unique prefix so repeated runs against the same database do not collide
+        long run = System.currentTimeMillis() % 1_000_000;
+        return new LoadScenario("registration-rush", registrationRushOperations, i -> {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "firstName", "Rush",
+                    "lastName", "Student" + i,
+                    "email", "bench.rush." + run + "." + i + "@example.com",
+                    "password", "benchmark123",
+                    "studentId", String.format("S9%06d%06d", run, i),
+                    "program", "Computer Science",
+                    "year", "1st Year"));
+            return post(baseUrl + "/api/auth/register/student", body).statusCode() == 200;
+        });
+    }
+
+    private LoadScenario dashboardReads(String baseUrl, BenchmarkDataset dataset, String password) throws Exception {
+        int sessions = Math.min(DASHBOARD_SESSIONS, dataset.studentCount());
+        String[] tokens = new String[sessions];
+        for (int s = 0; s < sessions; s++) {
+            tokens[s] = login(baseUrl, studentEmail(dataset, s), password);
+        }
+        return new LoadScenario("dashboard-reads", dashboardReadOperations, i -> {
+            int session = i % sessions;
+            long studentId = dataset.studentId(session);
+            return get(baseUrl + "/api/students/" + studentId, tokens[session]).statusCode() == 200
+                    && get(baseUrl + "/api/students/" + studentId + "/courses", tokens[session]).statusCode() == 200;
+        });
+    }
+
+    private LoadScenario submissionBurst(BenchmarkDataset dataset) {
+        Assignment deadline = new Assignment();
+        deadline.setCourse(courseRepository.getReferenceById(dataset.courseId(0)));
+        deadline.setTitle("Deadline burst " + LocalDateTime.now());
+        deadline.setDescription("Benchmark deadline");
+        deadline.setDueDate(LocalDateTime.now());
+        deadline.setTotalPoints(100);
+        Assignment assignment = assignmentRepository.save(deadline);
+
+        return new LoadScenario("submission-burst", submissionBurstOperations, i -> {
+            Submission submission = new Submission();
+            submission.setAssignment(assignmentRepository.getReferenceById(assignment.getId()));
+            submission.setStudent(studentRepository.getReferenceById(dataset.studentId(i)));
+            submission.setSubmissionDate(LocalDateTime.now());
+            submission.setFilePath("uploads/bench/burst/" + assignment.getId() + "/" + i + ".pdf");
+            submissionRepository.save(submission);
+            return true;
+        });
+    }
+
+    private String login(String baseUrl, String email, String password) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = post(baseUrl + "/api/auth/login", body);
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        JsonNode token = objectMapper.readTree(response.body()).path("data").path("token");
+        return token.isTextual() ? token.asText() : null;
+    }
+
+    private HttpResponse<String> post(String url, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String url, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String studentEmail(BenchmarkDataset dataset, int i) {
+        return BenchmarkDataGenerator.STUDENT_EMAIL_PREFIX + dataset.studentNumber(i) + "@example.com";
+    }
+}
@@ -0,0 +1,38 @@
+package com.sms.benchmark;
+
+/**
+ * A named workload: {@code operations} calls of {@link Operation#run(int)}, spread over
+ * the runner's worker threads. Each call gets its own operation index.
+ */
+public class LoadScenario {
+
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Runs one operation and returns whether it succeeded.
+         */
+        boolean run(int index) throws Exception;
+    }
+
+    private final String name;
+    private final int operations;
+    private final Operation operation;
+
+    public LoadScenario(String name, int operations, Operation operation) {
+        this.name = name;
+        this.operations = operations;
+        this.operation = operation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+}
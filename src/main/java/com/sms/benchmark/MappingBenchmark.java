@@ -0,0 +1,145 @@
+package com.sms.benchmark;
+
+import com.sms.dto.CourseDTO;
+import com.sms.dto.ScheduleDTO;
+import com.sms.dto.StudentDTO;
+import com.sms.dto.TeacherDTO;
+import com.sms.mapper.DtoMapper;
+import com.sms.model.Course;
+import com.sms.model.Schedule;
+import com.sms.model.Student;
+import com.sms.model.User;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Time to map the largest lists to DTOs. A page of students with their courses is mapped
+ * by {@link DtoMapper} and by the per-service {@code convertToDTO} it replaced, and the
+ * flat user mapping is run sequentially and across the fork/join pool at sizes around
+ * {@link DtoMapper#PARALLEL_THRESHOLD}. Entities are loaded once in a read-only
+ * transaction and warmed up, so the timings cover mapping only.
+ */
+@Component
+@Profile("benchmark")
+public class MappingBenchmark {
+
+    private static final int[] FLAT_SIZES = {500, DtoMapper.PARALLEL_THRESHOLD / 2,
+            DtoMapper.PARALLEL_THRESHOLD, DtoMapper.PARALLEL_THRESHOLD * 4};
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DtoMapper dtoMapper;
+
+    @Value("${sms.benchmark.mapping.iterations:200}")
+    private int iterations;
+
+    @Transactional(readOnly = true)
+    public List<MappingResult> run() {
+        List<MappingResult> results = new ArrayList<>();
+
+        List<Student> students = studentRepository.findWithCoursesByIdIn(
+                studentRepository.findIdsByIdGreaterThan(0L, PageRequest.of(0, 500)));
+        results.add(measure("students-page-500", "convertToDTO", students,
+                source -> source.stream().map(MappingBenchmark::convertToDTO).collect(Collectors.toList())));
+        results.add(measure("students-page-500", "DtoMapper", students,
+                source -> dtoMapper.mapList(source, dtoMapper::toStudentDTO)));
+
+        List<User> users = userRepository.findAll();
+        for (int size : FLAT_SIZES) {
+            if (size > users.size()) {
+                break;
+            }
+            List<User> slice = users.subList(0, size);
+            results.add(measure("users-" + size, "sequential", slice,
+                    source -> dtoMapper.mapList(source, dtoMapper::toUserDTO)));
+            results.add(measure("users-" + size, "parallel", slice,
+                    source -> source.parallelStream().map(dtoMapper::toUserDTO).collect(Collectors.toList())));
+        }
+        return results;
+    }
+
+    private <S> MappingResult measure(String payload, String mapper, List<S> source, Function<List<S>, List<?>> mapping) {
+        // Warm up so the timed loop runs compiled code
+        for (int i = 0; i < iterations; i++) {
+            mapping.apply(source);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapping.apply(source);
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / iterations;
+        return new MappingResult(payload, mapper, source.size(), micros);
+    }
+
+    // StudentService.convertToDTO as it was before DtoMapper, without its debug output
+    private static StudentDTO convertToDTO(Student student) {
+        StudentDTO dto = new StudentDTO();
+        dto.setId(student.getId());
+        dto.setName(student.getName());
+        dto.setEmail(student.getEmail());
+        dto.setRole(student.getRole());
+        dto.setStatus(student.getStatus());
+        dto.setCreatedAt(student.getCreatedAt());
+        dto.setUpdatedAt(student.getUpdatedAt());
+        dto.setStudentId(student.getStudentId());
+        dto.setProgram(student.getProgram());
+        dto.setYear(student.getYear());
+
+        Set<CourseDTO> courseDTOs = new HashSet<>();
+        if (student.getEnrolledCourses() != null) {
+            for (Course course : student.getEnrolledCourses()) {
+                CourseDTO courseDTO = new CourseDTO();
+                courseDTO.setId(course.getId());
+                courseDTO.setCode(course.getCode());
+                courseDTO.setName(course.getName());
+                courseDTO.setDescription(course.getDescription());
+                courseDTO.setCreatedAt(course.getCreatedAt());
+                courseDTO.setUpdatedAt(course.getUpdatedAt());
+
+                if (course.getTeacher() != null) {
+                    TeacherDTO teacherDTO = new TeacherDTO();
+                    teacherDTO.setId(course.getTeacher().getId());
+                    teacherDTO.setName(course.getTeacher().getName());
+                    teacherDTO.setTeacherId(course.getTeacher().getTeacherId());
+                    teacherDTO.setDepartment(course.getTeacher().getDepartment());
+                    courseDTO.setTeacherId(course.getTeacher().getTeacherId());
+                }
+
+                Set<ScheduleDTO> scheduleDTOs = new HashSet<>();
+                if (course.getSchedules() != null) {
+                    for (Schedule schedule : course.getSchedules()) {
+                        ScheduleDTO scheduleDTO = new ScheduleDTO();
+                        scheduleDTO.setId(schedule.getId());
+                        scheduleDTO.setDay(schedule.getDay());
+                        scheduleDTO.setStartTime(schedule.getStartTime());
+                        scheduleDTO.setEndTime(schedule.getEndTime());
+                        scheduleDTO.setRoom(schedule.getRoom());
+                        scheduleDTOs.add(scheduleDTO);
+                    }
+                }
+                courseDTO.setSchedules(scheduleDTOs);
+                courseDTOs.add(courseDTO);
+            }
+        }
+        dto.setEnrolledCourses(courseDTOs);
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sms.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MappingResult {
+    private String payload;
+    private String mapper;
+    private int items;
+    private double mapMicros;
+}
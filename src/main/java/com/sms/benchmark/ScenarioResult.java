@@ -0,0 +1,21 @@
+package com.sms.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScenarioResult {
+    private String scenario;
+    private int operations;
+    private int errors;
+    private long durationMs;
+    private double throughputPerSecond;
+    private double p50Ms;
+    private double p99Ms;
+    private double maxMs;
+    private long sqlStatements;
+    private double sqlStatementsPerOperation;
+}
@@ -0,0 +1,100 @@
+package com.sms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.CourseService;
+import com.sms.service.StudentService;
+import com.sms.service.TeacherService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded size and serialization time of the largest response payloads in each wire
+ * format, using the same mappers as the HTTP message converters. Payloads are loaded
+ * from the generated dataset and wrapped in {@link ApiResponse} as the API returns them.
+ */
+@Component
+@Profile("benchmark")
+public class SerializationBenchmark {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private ObjectMapper jsonMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Value("${sms.benchmark.serialization.iterations:2000}")
+    private int iterations;
+
+    public List<SerializationResult> run(BenchmarkDataset dataset) throws IOException {
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        payloads.put("student-with-courses", ApiResponse.success("Student retrieved successfully",
+                studentService.getStudentByIdWithCourses(dataset.studentId(0)).orElse(null)));
+        payloads.put("students-page-500", ApiResponse.success("Students retrieved successfully",
+                studentService.getStudentsPage(0L, 500)));
+        payloads.put("courses-page-500", ApiResponse.success("Courses retrieved successfully",
+                courseService.getCoursesPage(0L, 500)));
+        payloads.put("teachers-all", ApiResponse.success("Teachers retrieved successfully",
+                teacherService.getAllTeachers()));
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", jsonMapper);
+        formats.put("cbor", cborConverter.getObjectMapper());
+        formats.put("smile", smileConverter.getObjectMapper());
+
+        List<SerializationResult> results = new ArrayList<>();
+        for (Map.Entry<String, Object> payload : payloads.entrySet()) {
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                results.add(measure(payload.getKey(), format.getKey(), format.getValue(), payload.getValue()));
+            }
+        }
+        return results;
+    }
+
+    private SerializationResult measure(String name, String format, ObjectMapper mapper, Object payload)
+            throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(payload);
+        // Warm up so the timed loop runs compiled code
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(payload);
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / iterations;
+        return new SerializationResult(name, format, encoded.length, gzip(encoded).length, micros);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,16 @@
+package com.sms.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerializationResult {
+    private String payload;
+    private String format;
+    private int bytes;
+    private int gzipBytes;
+    private double serializeMicros;
+}
@@ -0,0 +1,96 @@
+package com.sms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how long this start took and exits. Each run appends one line to
+ * {@code startup.ndjson} in the report directory, tagged with how the JVM was started
+ * (AOT, class data sharing archive, lazy initialization), so repeated runs of each
+ * mode can be compared side by side.
+ *
+ * JVM-to-ready is measured from the process start time the JVM reports, so it includes
+ * class loading before {@code main}; the context figure is Spring Boot's own.
+ *
+ * Switched on by a property (set by the {@code startup} profile) rather than by
+ * {@code @Profile}: an AOT build fixes the bean set at build time, and the AOT and class
+ * data sharing runs are the ones this needs to measure.
+ */
+@Component
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${sms.benchmark.startup-report:false}")
+    private boolean enabled;
+
+    @Value("${sms.benchmark.report-dir:target/benchmark}")
+    private String reportDir;
+
+    @Value("${sms.benchmark.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) throws Exception {
+        if (!enabled) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long jvmToReadyMs = System.currentTimeMillis() - runtime.getStartTime();
+        List<String> jvmArgs = runtime.getInputArguments();
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("at", LocalDateTime.now().toString());
+        line.put("aot", AotDetector.useGeneratedArtifacts());
+        line.put("cds", jvmArgs.stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile")));
+        line.put("lazy", environment.getProperty("spring.main.lazy-initialization", Boolean.class, false));
+        line.put("jvmToReadyMs", jvmToReadyMs);
+        line.put("contextReadyMs", event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : null);
+        line.put("beans", applicationContext.getBeanDefinitionCount());
+        line.put("loadedClasses", ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+
+        File dir = new File(reportDir);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IllegalStateException("Cannot create report directory " + dir.getAbsolutePath());
+        }
+        try (OutputStream out = new FileOutputStream(new File(dir, "startup.ndjson"), true)) {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        }
+        logger.info("Startup: {}", new String(objectMapper.writeValueAsBytes(line), StandardCharsets.UTF_8));
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
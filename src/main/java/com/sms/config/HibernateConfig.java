@@ -0,0 +1,20 @@
+package com.sms.config;
+
+import com.sms.monitoring.QueryCountingInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        QueryCountingInterceptor interceptor = new QueryCountingInterceptor();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, interceptor);
+            properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.sms.config;
+
+import com.sms.events.DomainEventSubscriber;
+import com.sms.notification.NotificationChannel;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * With {@code spring.main.lazy-initialization} on, beans nothing needs during startup
+ * (controllers, services, most MVC infrastructure) are created on first use. Beans with
+ * {@code @Scheduled} methods are kept eager by Spring Boot already; these are kept eager
+ * as well, so a schema that does not match the entities, or an event or mail sink that
+ * cannot be opened, fails the start rather than the first request.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class,
+                AbstractEntityManagerFactoryBean.class, DomainEventSubscriber.class, NotificationChannel.class);
+    }
+}
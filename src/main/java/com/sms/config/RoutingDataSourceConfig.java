@@ -0,0 +1,91 @@
+package com.sms.config;
+
+import com.sms.datasource.ReadWriteRoutingDataSource;
+import com.sms.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with a read/write router when
+ * {@code sms.datasource.routing.enabled=true}. The primary keeps the regular
+ * {@code spring.datasource.*} settings; replicas are listed under
+ * {@code sms.datasource.routing.replicas[n]}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sms.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 RoutingDataSourceProperties routingProperties,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingDataSourceProperties.Replica> configured = routingProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            RoutingDataSourceProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null
+                            ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null
+                            ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            String name = "replica-" + i;
+            dataSource.setPoolName(name);
+            dataSource.setReadOnly(true);
+            // Let the app start while a replica is down, and fail over quickly when one stops answering
+            dataSource.setInitializationFailTimeout(-1);
+            dataSource.setConnectionTimeout(Math.max(250L, routingProperties.getValidationTimeoutSeconds() * 1000L));
+            replicas.put(name, dataSource);
+        }
+
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replicas,
+                routingProperties.getStickyWindowMs(), routingProperties.getValidationTimeoutSeconds(),
+                meterRegistry);
+        // The read-only flag is only known once the transaction has started, so defer
+        // fetching the physical connection until the first statement
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${sms.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (routingDataSource != null) {
+            routingDataSource.checkReplicas();
+        }
+    }
+
+    // The bean is the lazy proxy, which has nothing to close, so the pools are closed here;
+    // this configuration outlives the data source bean and everything using it
+    @PreDestroy
+    public void closeDataSources() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.sms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} jobs run on Spring Boot's scheduler, sized by
+ * {@code spring.task.scheduling.pool.size}. Jobs that may wait on I/O or a rate limit
+ * hand their work to an executor of their own rather than holding a scheduler thread.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,51 @@
+package com.sms.controller;
+
+import com.sms.analytics.AnalyticsSnapshot;
+import com.sms.dto.DepartmentSummaryDTO;
+import com.sms.dto.EnrollmentCountDTO;
+import com.sms.dto.TeacherLoadDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/enrollments")
+    public ResponseEntity<ApiResponse<List<EnrollmentCountDTO>>> getEnrollmentCounts(
+            @RequestParam(required = false) String program,
+            @RequestParam(required = false) String year) {
+        List<EnrollmentCountDTO> counts = analyticsService.getEnrollmentCounts(program, year);
+        return ResponseEntity.ok(ApiResponse.success("Enrollment counts retrieved successfully", counts));
+    }
+
+    @GetMapping("/teacher-load")
+    public ResponseEntity<ApiResponse<List<TeacherLoadDTO>>> getTeacherLoad(
+            @RequestParam(required = false) String department) {
+        List<TeacherLoadDTO> load = analyticsService.getTeacherLoad(department);
+        return ResponseEntity.ok(ApiResponse.success("Teacher load retrieved successfully", load));
+    }
+
+    @GetMapping("/departments")
+    public ResponseEntity<ApiResponse<List<DepartmentSummaryDTO>>> getDepartmentTotals() {
+        List<DepartmentSummaryDTO> totals = analyticsService.getDepartmentTotals();
+        return ResponseEntity.ok(ApiResponse.success("Department totals retrieved successfully", totals));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AnalyticsSnapshot>> refresh() {
+        AnalyticsSnapshot snapshot = analyticsService.refresh();
+        return ResponseEntity.ok(ApiResponse.success("Analytics snapshot refreshed", snapshot));
+    }
+}
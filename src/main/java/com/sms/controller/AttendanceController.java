@@ -0,0 +1,72 @@
+package com.sms.controller;
+
+import com.sms.dto.AttendanceRateDTO;
+import com.sms.dto.AttendanceSessionDTO;
+import com.sms.dto.CheckInResultDTO;
+import com.sms.dto.CourseAttendanceDTO;
+import com.sms.dto.request.CheckInRequest;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.AttendanceService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendance")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AttendanceController {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @PostMapping("/schedules/{scheduleId}/check-in")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<CheckInResultDTO>> checkIn(@PathVariable Long scheduleId) {
+        return ResponseEntity.ok(ApiResponse.success("Checked in successfully", attendanceService.checkInSelf(scheduleId)));
+    }
+
+    @PostMapping("/schedules/{scheduleId}/sessions/{date}/check-ins")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<ApiResponse<CheckInResultDTO>> checkInBulk(
+            @PathVariable Long scheduleId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody CheckInRequest request) {
+        CheckInResultDTO result = attendanceService.checkInBulk(scheduleId, date, request.getStudentIds());
+        return ResponseEntity.ok(ApiResponse.success("Attendance recorded successfully", result));
+    }
+
+    @GetMapping("/schedules/{scheduleId}/sessions/{date}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<ApiResponse<AttendanceSessionDTO>> getSession(
+            @PathVariable Long scheduleId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully",
+                attendanceService.getSession(scheduleId, date)));
+    }
+
+    @GetMapping("/courses/{courseId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<ApiResponse<CourseAttendanceDTO>> getCourseAttendance(
+            @PathVariable Long courseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully",
+                attendanceService.getCourseAttendance(courseId, from, to)));
+    }
+
+    @GetMapping("/students/{id}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER') or (hasRole('STUDENT') and #id == authentication.principal.id)")
+    public ResponseEntity<ApiResponse<List<AttendanceRateDTO>>> getStudentAttendance(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success("Attendance retrieved successfully",
+                attendanceService.getStudentAttendance(id, from, to)));
+    }
+}
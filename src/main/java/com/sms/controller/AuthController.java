@@ -29,51 +29,23 @@ public class AuthController {
     
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            JwtResponse jwtResponse = userService.authenticateUser(loginRequest);
-            return ResponseEntity.ok(ApiResponse.success("Login successful", jwtResponse));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Invalid credentials"));
-        }
+        JwtResponse jwtResponse = userService.authenticateUser(loginRequest);
+        return ResponseEntity.ok(ApiResponse.success("Login successful", jwtResponse));
     }
     
     @PostMapping("/register/student")
     public ResponseEntity<?> registerStudent(@Valid @RequestBody StudentRegistrationRequest request) {
-        if (userService.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Email is already in use"));
-        }
-        
-        if (studentService.existsByStudentId(request.getStudentId())) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Student ID is already taken"));
-        }
-        
-        try {
-            return ResponseEntity.ok(ApiResponse.success(
-                "Student registered successfully",
-                studentService.registerStudent(request)
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        return ResponseEntity.ok(ApiResponse.success(
+            "Student registered successfully",
+            studentService.registerStudent(request)
+        ));
     }
     
     @PostMapping("/register/teacher")
     public ResponseEntity<?> registerTeacher(@Valid @RequestBody TeacherRegistrationRequest request) {
-        if (userService.existsByEmail(request.getEmail())) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Email is already in use"));
-        }
-        
-        if (teacherService.existsByTeacherId(request.getTeacherId())) {
-            return ResponseEntity.badRequest().body(ApiResponse.error("Teacher ID is already taken"));
-        }
-        
-        try {
-            return ResponseEntity.ok(ApiResponse.success(
-                "Teacher registered successfully",
-                teacherService.registerTeacher(request)
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        return ResponseEntity.ok(ApiResponse.success(
+            "Teacher registered successfully",
+            teacherService.registerTeacher(request)
+        ));
     }
 }
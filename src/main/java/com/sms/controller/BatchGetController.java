@@ -0,0 +1,62 @@
+package com.sms.controller;
+
+import com.sms.dto.CourseDTO;
+import com.sms.dto.StudentDTO;
+import com.sms.dto.TeacherDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.BatchResult;
+import com.sms.service.CourseService;
+import com.sms.service.StudentService;
+import com.sms.service.TeacherService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Batch gets for list views that would otherwise fetch related entities one request at
+ * a time, e.g. the teacher of every course on a page. Each takes database ids, business
+ * keys or both (comma separated or repeated), up to {@link BatchResult#MAX_KEYS} in all.
+ *
+ * Mapped here rather than on the resource controllers because a method mapping on those
+ * would be joined to the class path with a slash.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class BatchGetController {
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @GetMapping("/teachers:batchGet")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<?> batchGetTeachers(@RequestParam(defaultValue = "") List<Long> ids,
+                                              @RequestParam(defaultValue = "") List<String> teacherIds) {
+        BatchResult<TeacherDTO> teachers = teacherService.getTeachersBatch(ids, teacherIds);
+        return ResponseEntity.ok(ApiResponse.success("Teachers retrieved successfully", teachers));
+    }
+
+    @GetMapping("/students:batchGet")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<?> batchGetStudents(@RequestParam(defaultValue = "") List<Long> ids,
+                                              @RequestParam(defaultValue = "") List<String> studentIds) {
+        BatchResult<StudentDTO> students = studentService.getStudentsBatch(ids, studentIds);
+        return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", students));
+    }
+
+    @GetMapping("/courses:batchGet")
+    public ResponseEntity<?> batchGetCourses(@RequestParam(defaultValue = "") List<Long> ids,
+                                             @RequestParam(defaultValue = "") List<String> codes) {
+        BatchResult<CourseDTO> courses = courseService.getCoursesBatch(ids, codes);
+        return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
+    }
+}
@@ -1,16 +1,24 @@
 package com.sms.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sms.dto.CourseDTO;
 import com.sms.dto.request.CourseRequest;
 import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.CursorPage;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseResource;
 import com.sms.service.CourseService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/courses")
@@ -20,24 +28,43 @@ public class CourseController {
     @Autowired
     private CourseService courseService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> createCourse(@Valid @RequestBody CourseRequest request) {
-        try {
-            CourseDTO createdCourse = courseService.createCourse(request);
-            return ResponseEntity.ok(ApiResponse.success("Course created successfully", createdCourse));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        CourseDTO createdCourse = courseService.createCourse(request);
+        return ResponseEntity.ok(ApiResponse.success("Course created successfully", createdCourse));
     }
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CourseDTO>>> getAllCourses() {
+    public ResponseEntity<?> getAllCourses(@RequestParam(required = false) Long after,
+                                           @RequestParam(required = false) Integer limit,
+                                           @RequestParam(required = false) String fields) {
+        if (StringUtils.hasText(fields)) {
+            FieldSelection selection = FieldSelection.parse(SparseResource.COURSE, fields);
+            if (after != null || limit != null) {
+                CursorPage<Map<String, Object>> page = courseService.getCourseFieldsPage(selection, after, limit);
+                return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", page));
+            }
+            List<Map<String, Object>> rows = courseService.getCourseFields(selection);
+            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", rows));
+        }
+        if (after != null || limit != null) {
+            CursorPage<CourseDTO> page = courseService.getCoursesPage(after, limit);
+            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", page));
+        }
         System.out.println("Fetching all courses");
         List<CourseDTO> courses = courseService.getAllCourses();
         return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
     }
     
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllCourses() {
+        return NdjsonResponses.<CourseDTO>stream(objectMapper, courseService::streamCourses);
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<?> getCourseById(@PathVariable Long id) {
         return courseService.getCourseById(id)
@@ -54,34 +81,22 @@ public class CourseController {
     
     @GetMapping("/teacher/{teacherId}")
     public ResponseEntity<ApiResponse<List<CourseDTO>>> getCoursesByTeacher(@PathVariable Long teacherId) {
-        try {
-            List<CourseDTO> courses = courseService.getCoursesByTeacher(teacherId);
-            return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        List<CourseDTO> courses = courseService.getCoursesByTeacher(teacherId);
+        return ResponseEntity.ok(ApiResponse.success("Courses retrieved successfully", courses));
     }
     
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> updateCourse(@PathVariable Long id, @Valid @RequestBody CourseRequest request) {
-        try {
-            System.out.println("Updating course with ID: " + request);
-            CourseDTO updatedCourse = courseService.updateCourse(id, request);
-            return ResponseEntity.ok(ApiResponse.success("Course updated successfully", updatedCourse));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        System.out.println("Updating course with ID: " + request);
+        CourseDTO updatedCourse = courseService.updateCourse(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Course updated successfully", updatedCourse));
     }
     
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteCourse(@PathVariable Long id) {
-        try {
-            courseService.deleteCourse(id);
-            return ResponseEntity.ok(ApiResponse.success("Course deleted successfully", null));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        courseService.deleteCourse(id);
+        return ResponseEntity.ok(ApiResponse.success("Course deleted successfully", null));
     }
 }
@@ -0,0 +1,39 @@
+package com.sms.controller;
+
+import com.sms.dto.ExamTimetableJobDTO;
+import com.sms.dto.request.ExamTimetableRequest;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.ExamTimetableService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/exam-timetables")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class ExamTimetableController {
+
+    @Autowired
+    private ExamTimetableService examTimetableService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ExamTimetableJobDTO>> submit(@Valid @RequestBody ExamTimetableRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Exam timetable job submitted", examTimetableService.submit(request)));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExamTimetableJobDTO>> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success("Exam timetable job retrieved successfully",
+                examTimetableService.getJob(jobId)));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ExamTimetableJobDTO>> cancel(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success("Exam timetable job cancelled", examTimetableService.cancel(jobId)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sms.controller;
+
+import com.sms.dto.LookupMatchDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.LookupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/lookup")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class LookupController {
+
+    @Autowired
+    private LookupService lookupService;
+
+    @GetMapping("/prefix")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<?> lookupPrefix(@RequestParam("q") String prefix,
+                                          @RequestParam(required = false) String type,
+                                          @RequestParam(defaultValue = "10") int limit) {
+        List<LookupMatchDTO> matches = lookupService.lookupPrefix(prefix, type, limit);
+        return ResponseEntity.ok(ApiResponse.success("Matches retrieved successfully", matches));
+    }
+}
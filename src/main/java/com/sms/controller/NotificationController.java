@@ -0,0 +1,46 @@
+package com.sms.controller;
+
+import com.sms.dto.NotificationDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.CursorPage;
+import com.sms.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("isAuthenticated()")
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPage<NotificationDTO>>> getInbox(
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<NotificationDTO> page = notificationService.getInbox(before, limit);
+        return ResponseEntity.ok(ApiResponse.success("Notifications retrieved successfully", page));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount() {
+        return ResponseEntity.ok(ApiResponse.success("Unread count retrieved successfully",
+                notificationService.getUnreadCount()));
+    }
+
+    @PutMapping("/{id}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(@PathVariable Long id) {
+        notificationService.markRead(id);
+        return ResponseEntity.ok(ApiResponse.success("Notification marked as read", null));
+    }
+
+    @PutMapping("/read-all")
+    public ResponseEntity<ApiResponse<Integer>> markAllRead() {
+        return ResponseEntity.ok(ApiResponse.success("Notifications marked as read",
+                notificationService.markAllRead()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.sms.controller;
+
+import com.sms.dto.SearchResultDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.PageResponse;
+import com.sms.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<?> search(@RequestParam("q") String query,
+                                    @RequestParam(required = false) String type,
+                                    @RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "20") int size) {
+        PageResponse<SearchResultDTO> results = searchService.search(query, type, page, size);
+        return ResponseEntity.ok(ApiResponse.success("Search completed successfully", results));
+    }
+}
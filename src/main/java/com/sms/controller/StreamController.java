@@ -0,0 +1,32 @@
+package com.sms.controller;
+
+import com.sms.push.PushRegistry;
+import com.sms.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live updates for the signed-in user as server-sent events. Browsers' EventSource
+ * resends the last event id on reconnect; clients that reconnect by hand can pass it as
+ * {@code lastEventId} instead.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("isAuthenticated()")
+public class StreamController {
+
+    @Autowired
+    private PushRegistry pushRegistry;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserDetailsImpl user,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+                             @RequestParam(value = "lastEventId", required = false) Long lastEventId) {
+        return pushRegistry.connect(user.getId(), lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
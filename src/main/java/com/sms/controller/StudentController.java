@@ -1,16 +1,26 @@
 package com.sms.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.dto.RecommendedCourseDTO;
 import com.sms.dto.StudentDTO;
 import com.sms.dto.request.StudentRegistrationRequest;
 import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.CursorPage;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseResource;
+import com.sms.service.CourseRecommendationService;
 import com.sms.service.StudentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/students")
@@ -20,13 +30,40 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private CourseRecommendationService courseRecommendationService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
-    public ResponseEntity<ApiResponse<List<StudentDTO>>> getAllStudents() {
+    public ResponseEntity<?> getAllStudents(@RequestParam(required = false) Long after,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String fields) {
+        if (StringUtils.hasText(fields)) {
+            FieldSelection selection = FieldSelection.parse(SparseResource.STUDENT, fields);
+            if (after != null || limit != null) {
+                CursorPage<Map<String, Object>> page = studentService.getStudentFieldsPage(selection, after, limit);
+                return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", page));
+            }
+            List<Map<String, Object>> rows = studentService.getStudentFields(selection);
+            return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", rows));
+        }
+        if (after != null || limit != null) {
+            CursorPage<StudentDTO> page = studentService.getStudentsPage(after, limit);
+            return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", page));
+        }
         List<StudentDTO> students = studentService.getAllStudents();
         return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", students));
     }
     
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<StreamingResponseBody> streamAllStudents() {
+        return NdjsonResponses.<StudentDTO>stream(objectMapper, studentService::streamStudents);
+    }
+    
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER') or (hasRole('STUDENT') and #id == authentication.principal.id)")
     public ResponseEntity<?> getStudentById(@PathVariable Long id) {
@@ -44,6 +81,15 @@ public class StudentController {
             .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/recommended-courses")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER') or (hasRole('STUDENT') and #id == authentication.principal.id)")
+    public ResponseEntity<ApiResponse<List<RecommendedCourseDTO>>> getRecommendedCourses(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer limit) {
+        List<RecommendedCourseDTO> courses = courseRecommendationService.getRecommendedCourses(id, limit);
+        return ResponseEntity.ok(ApiResponse.success("Recommended courses retrieved successfully", courses));
+    }
+
     @GetMapping("/studentId/{studentId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> getStudentByStudentId(@PathVariable String studentId) {
@@ -55,21 +101,13 @@ public class StudentController {
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and #id.toString() == authentication.principal.id.toString())")
     public ResponseEntity<?> updateStudent(@PathVariable Long id, @Valid @RequestBody StudentRegistrationRequest request) {
-        try {
-            StudentDTO updatedStudent = studentService.updateStudent(id, request);
-            return ResponseEntity.ok(ApiResponse.success("Student updated successfully", updatedStudent));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        StudentDTO updatedStudent = studentService.updateStudent(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Student updated successfully", updatedStudent));
     }
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
     public ResponseEntity<?> createStudent(@Valid @RequestBody StudentRegistrationRequest request) {
-        try {
-            StudentDTO newStudent = studentService.registerStudent(request);
-            return ResponseEntity.status(201).body(ApiResponse.success("Student created successfully", newStudent));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        StudentDTO newStudent = studentService.registerStudent(request);
+        return ResponseEntity.status(201).body(ApiResponse.success("Student created successfully", newStudent));
     }
 }
@@ -0,0 +1,27 @@
+package com.sms.controller;
+
+import com.sms.dto.SimilarSubmissionsDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.SubmissionSimilarityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/assignments")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SubmissionSimilarityController {
+
+    @Autowired
+    private SubmissionSimilarityService similarityService;
+
+    @GetMapping("/{assignmentId}/similar-submissions")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('TEACHER')")
+    public ResponseEntity<ApiResponse<SimilarSubmissionsDTO>> getSimilarSubmissions(
+            @PathVariable Long assignmentId,
+            @RequestParam(required = false) Double minSimilarity) {
+        return ResponseEntity.ok(ApiResponse.success("Similar submissions retrieved successfully",
+                similarityService.getSimilarSubmissions(assignmentId, minSimilarity)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.sms.controller;
+
+import com.sms.dto.SyncChangesDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("isAuthenticated()")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<SyncChangesDTO>> getChanges(@RequestParam(required = false) Long since) {
+        return ResponseEntity.ok(ApiResponse.success("Changes retrieved successfully", syncService.getChanges(since)));
+    }
+}
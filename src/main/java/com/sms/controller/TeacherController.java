@@ -1,17 +1,25 @@
 package com.sms.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sms.dto.TeacherDTO;
 import com.sms.dto.request.TeacherRegistrationRequest;
 import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.CursorPage;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseResource;
 import com.sms.service.TeacherService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/teachers")
@@ -21,12 +29,36 @@ public class TeacherController {
     @Autowired
     private TeacherService teacherService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<TeacherDTO>>> getAllTeachers() {
+    public ResponseEntity<?> getAllTeachers(@RequestParam(required = false) Long after,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String fields) {
+        if (StringUtils.hasText(fields)) {
+            FieldSelection selection = FieldSelection.parse(SparseResource.TEACHER, fields);
+            if (after != null || limit != null) {
+                CursorPage<Map<String, Object>> page = teacherService.getTeacherFieldsPage(selection, after, limit);
+                return ResponseEntity.ok(ApiResponse.success("Teachers retrieved successfully", page));
+            }
+            List<Map<String, Object>> rows = teacherService.getTeacherFields(selection);
+            return ResponseEntity.ok(ApiResponse.success("Teachers retrieved successfully", rows));
+        }
+        if (after != null || limit != null) {
+            CursorPage<TeacherDTO> page = teacherService.getTeachersPage(after, limit);
+            return ResponseEntity.ok(ApiResponse.success("Teachers retrieved successfully", page));
+        }
         List<TeacherDTO> teachers = teacherService.getAllTeachers();
         return ResponseEntity.ok(ApiResponse.success("Teachers retrieved successfully", teachers));
     }
+    
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllTeachers() {
+        return NdjsonResponses.<TeacherDTO>stream(objectMapper, teacherService::streamTeachers);
+    }
 
 
     @PostMapping
@@ -56,11 +88,7 @@ public class TeacherController {
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or (hasRole('TEACHER') and #id == authentication.principal.id)")
     public ResponseEntity<?> updateTeacher(@PathVariable Long id, @Valid @RequestBody TeacherRegistrationRequest request) {
-        try {
-            TeacherDTO updatedTeacher = teacherService.updateTeacher(id, request);
-            return ResponseEntity.ok(ApiResponse.success("Teacher updated successfully", updatedTeacher));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
-        }
+        TeacherDTO updatedTeacher = teacherService.updateTeacher(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Teacher updated successfully", updatedTeacher));
     }
 }
@@ -0,0 +1,39 @@
+package com.sms.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.dto.UserDTO;
+import com.sms.dto.response.ApiResponse;
+import com.sms.dto.response.CursorPage;
+import com.sms.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class UserController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) Long after,
+                                      @RequestParam(required = false) Integer limit) {
+        CursorPage<UserDTO> page = userService.getUsersPage(after, limit);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", page));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        return NdjsonResponses.<UserDTO>stream(objectMapper, userService::streamUsers);
+    }
+}
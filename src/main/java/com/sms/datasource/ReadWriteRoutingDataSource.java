@@ -0,0 +1,201 @@
+package com.sms.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else
+ * to the primary.
+ *
+ * Read-your-writes: when a write transaction commits, its caller (the authenticated
+ * user, or the client address for anonymous requests) is pinned to the primary for the
+ * sticky window, which should cover the replicas' usual lag.
+ *
+ * The routing decision reads the transaction's read-only flag, which Spring only sets
+ * after the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long stickyWindowNanos;
+    private final int validationTimeoutSeconds;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter primaryConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                      long stickyWindowMs, int validationTimeoutSeconds,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource,
+                meterRegistry.counter("sms.datasource.connections", "target", name))));
+        this.stickyWindowNanos = TimeUnit.MILLISECONDS.toNanos(stickyWindowMs);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.primaryConnections = meterRegistry.counter("sms.datasource.connections", "target", "primary");
+        for (Replica replica : this.replicas) {
+            meterRegistry.gauge("sms.datasource.replica.healthy",
+                    List.of(Tag.of("replica", replica.name)),
+                    replica, r -> r.healthy ? 1 : 0);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.connections.increment();
+                return connection;
+            } catch (SQLException e) {
+                // Fail over for this and later reads until the health check sees it recover
+                replica.healthy = false;
+                logger.warn("Replica {} unavailable, routing reads to primary: {}", replica.name, e.getMessage());
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    // Per-call credentials are meant for the writable database, so they bypass routing
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Validates every replica and brings recovered ones back into rotation. Also drops
+     * expired sticky entries.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                logger.info("Replica {} is now {}", replica.name, healthy ? "healthy" : "unhealthy");
+            }
+            replica.healthy = healthy;
+        }
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    /**
+     * Closes the primary and replica pools.
+     */
+    public void close() {
+        closeQuietly("primary", primary);
+        for (Replica replica : replicas) {
+            closeQuietly(replica.name, replica.dataSource);
+        }
+    }
+
+    private static void closeQuietly(String name, DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                logger.warn("Failed to close data source {}", name, e);
+            }
+        }
+    }
+
+    // Returns the replica to read from, or null for the primary
+    private Replica route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinCallerAfterCommit();
+            return null;
+        }
+        String caller = currentCaller();
+        if (caller != null) {
+            Long until = stickyUntil.get(caller);
+            if (until != null && until - System.nanoTime() > 0) {
+                return null;
+            }
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void pinCallerAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String caller = currentCaller();
+        if (caller == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(caller, System.nanoTime() + stickyWindowNanos);
+            }
+        });
+    }
+
+    private static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter connections;
+        // Out of rotation until the first health check has validated it
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource, Counter connections) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = connections;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sms.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "sms.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled;
+
+    // How long a caller's reads stay on the primary after it commits a write
+    private long stickyWindowMs = 2000;
+
+    private long healthCheckIntervalMs = 5000;
+
+    private int validationTimeoutSeconds = 2;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        // Fall back to the primary's credentials when not set
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One student's attendance in one course: sessions they were expected at and attended
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceRateDTO {
+    private Long courseId;
+    private String courseCode;
+    private Long studentId;
+    private String studentNumber;
+    private int sessions;
+    private int attended;
+    private Double rate;
+}
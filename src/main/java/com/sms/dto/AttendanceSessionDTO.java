@@ -0,0 +1,19 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceSessionDTO {
+    private Long scheduleId;
+    private Long courseId;
+    private LocalDate date;
+    private List<String> presentStudentIds;
+    private List<String> absentStudentIds;
+}
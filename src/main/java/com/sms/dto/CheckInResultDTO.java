@@ -0,0 +1,21 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInResultDTO {
+    private Long scheduleId;
+    private Long courseId;
+    private LocalDate date;
+    private int expected;
+    private int present;
+    // Student IDs that are unknown or not enrolled in the course
+    private List<String> rejectedStudentIds;
+}
@@ -0,0 +1,22 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseAttendanceDTO {
+    private Long courseId;
+    private String courseCode;
+    private LocalDate from;
+    private LocalDate to;
+    private int sessionsHeld;
+    // Check-ins over expected attendances, across all sessions in the range
+    private Double rate;
+    private List<AttendanceRateDTO> students;
+}
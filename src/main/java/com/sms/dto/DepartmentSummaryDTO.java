@@ -0,0 +1,15 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentSummaryDTO {
+    private String department;
+    private long teachers;
+    private long courses;
+    private long enrollments;
+}
@@ -0,0 +1,15 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentCountDTO {
+    private String program;
+    private String year;
+    private long students;
+    private long enrollments;
+}
@@ -0,0 +1,29 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamTimetableJobDTO {
+    private String id;
+    private String status;
+    private double progress;
+    private int round;
+    private int rounds;
+    private String message;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // Best timetable so far
+    private Boolean feasible;
+    private Long clashes;
+    private Long backToBackPairs;
+    private Long studentsWithBackToBack;
+    private List<ScheduledExamDTO> exams;
+}
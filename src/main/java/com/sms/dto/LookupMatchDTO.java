@@ -0,0 +1,15 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LookupMatchDTO {
+    private String type;
+    private String key;
+    private Long id;
+    private String label;
+}
@@ -0,0 +1,21 @@
+package com.sms.dto;
+
+import com.sms.model.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO {
+    private Long id;
+    private Notification.Type type;
+    private Long referenceId;
+    private String title;
+    private String message;
+    private LocalDateTime createdAt;
+    private boolean read;
+}
@@ -0,0 +1,19 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedCourseDTO {
+    private Long courseId;
+    private String code;
+    private String name;
+    // COHORT (same program and year), PROGRAM or POPULAR
+    private String basis;
+    private double score;
+    // Students behind the recommendation: co-enrolled ones, or all enrolled for POPULAR
+    private int students;
+}
@@ -0,0 +1,19 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledExamDTO {
+    private Long courseId;
+    private String courseCode;
+    private LocalDateTime startsAt;
+    private int students;
+    private List<String> rooms;
+}
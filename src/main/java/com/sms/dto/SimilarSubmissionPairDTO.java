@@ -0,0 +1,17 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarSubmissionPairDTO {
+    private Long submissionId;
+    private String studentId;
+    private Long otherSubmissionId;
+    private String otherStudentId;
+    // Estimated share of five-word sequences the two files have in common
+    private double similarity;
+}
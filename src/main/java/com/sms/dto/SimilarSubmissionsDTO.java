@@ -0,0 +1,23 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarSubmissionsDTO {
+    private Long assignmentId;
+    private double minSimilarity;
+    // Submissions with a file that were compared
+    private int compared;
+    // Submissions whose file is still waiting to be signed
+    private int pending;
+    // Submissions whose file could not be read or holds no text
+    private int unreadable;
+    private boolean truncated;
+    private List<SimilarSubmissionPairDTO> pairs;
+}
@@ -0,0 +1,21 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Assignment as sent by delta sync: the course by id instead of nested
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncAssignmentDTO {
+    private Long id;
+    private Long courseId;
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+    private Integer totalPoints;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * What changed in the caller's scope since their last sync. Clients upsert every entity
+ * by id, remove everything named in {@code deleted}, and pass {@code watermark} back as
+ * {@code since} next time. When {@code full} is set the lists hold the whole scope and
+ * replace local state.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesDTO {
+    private long watermark;
+    private boolean full;
+    private List<CourseDTO> courses;
+    private List<SyncAssignmentDTO> assignments;
+    private List<SyncSubmissionDTO> submissions;
+    private List<TombstoneDTO> deleted;
+}
@@ -0,0 +1,21 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Submission and its grade as sent by delta sync: assignment and student by id instead of nested
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncSubmissionDTO {
+    private Long id;
+    private Long assignmentId;
+    private Long studentId;
+    private LocalDateTime submissionDate;
+    private Integer grade;
+    private String feedback;
+    private LocalDateTime updatedAt;
+}
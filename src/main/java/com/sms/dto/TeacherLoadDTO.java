@@ -0,0 +1,16 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeacherLoadDTO {
+    private String teacherId;
+    private String name;
+    private String department;
+    private long courses;
+    private long enrolledStudents;
+}
@@ -0,0 +1,20 @@
+package com.sms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An entity the client should drop: deleted, or no longer visible to this user. Removing
+ * a course also removes its schedules, assignments and submissions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TombstoneDTO {
+    private String type;
+    private Long id;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,19 @@
+package com.sms.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInRequest {
+
+    @NotEmpty(message = "At least one student ID is required")
+    @Size(max = 5000, message = "At most 5000 students can be checked in at once")
+    private List<String> studentIds;
+}
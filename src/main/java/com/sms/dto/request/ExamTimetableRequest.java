@@ -0,0 +1,37 @@
+package com.sms.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExamTimetableRequest {
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    @NotEmpty(message = "At least one exam start time is required")
+    private List<LocalTime> slotTimes;
+
+    private boolean includeWeekends;
+
+    // Courses to examine; all courses with enrolled students when empty
+    private List<Long> courseIds;
+
+    @Min(value = 1, message = "Room capacity must be at least 1")
+    @Max(value = 10000, message = "Room capacity must be at most 10000")
+    private Integer roomCapacity;
+}
@@ -0,0 +1,49 @@
+package com.sms.dto.response;
+
+import com.sms.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Result of a batch get: the entities found, in the order their keys were added, and the
+ * keys that matched nothing. A missing key does not fail the rest of the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResult<T> {
+    public static final int MAX_KEYS = 100;
+
+    private List<T> items = new ArrayList<>();
+    private List<String> missing = new ArrayList<>();
+
+    public static void checkKeyCount(Collection<?> keys, Collection<?> otherKeys) {
+        if (keys.size() + otherKeys.size() > MAX_KEYS) {
+            throw ErrorCode.INVALID_PARAMETER.exception("At most " + MAX_KEYS + " keys can be requested at once");
+        }
+    }
+
+    /**
+     * Appends the entries of {@code found} for {@code keys}, skipping repeated keys, and
+     * records the keys with no entry as missing.
+     */
+    public <K, E> BatchResult<T> add(Collection<K> keys, Map<K, E> found, Function<E, T> mapping) {
+        for (K key : new LinkedHashSet<>(keys)) {
+            E entity = found.get(key);
+            if (entity == null) {
+                missing.add(String.valueOf(key));
+            } else {
+                items.add(mapping.apply(entity));
+            }
+        }
+        return this;
+    }
+}
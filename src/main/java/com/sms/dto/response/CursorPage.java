@@ -0,0 +1,42 @@
+package com.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is the id of the last row
+ * and is passed back as {@code after} to fetch the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> content;
+    private Long nextCursor;
+    private boolean hasMore;
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}, the extra row only
+     * signalling that another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> content = hasMore ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasMore ? idOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sms.events;
+
+import com.sms.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change as handed to subscribers. {@code id} is the outbox row id: it is
+ * the same on every redelivery, so subscribers can use it to drop duplicates. It is
+ * assigned when the row is inserted, not when its transaction commits, so an event can
+ * arrive after events with higher ids; it does not order events across transactions.
+ */
+public final class DomainEvent {
+
+    private final long id;
+    private final String aggregateType;
+    private final String aggregateId;
+    private final String type;
+    private final String payload;
+    private final LocalDateTime occurredAt;
+
+    public DomainEvent(long id, String aggregateType, String aggregateId, String type,
+                       String payload, LocalDateTime occurredAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    static DomainEvent of(OutboxEvent row) {
+        return new DomainEvent(row.getId(), row.getAggregateType(), row.getAggregateId(),
+                row.getEventType(), row.getPayload(), row.getCreatedAt());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /** Event body as JSON. */
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    String aggregateKey() {
+        return aggregateType + ':' + aggregateId;
+    }
+}
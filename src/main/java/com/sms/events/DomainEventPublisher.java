@@ -0,0 +1,39 @@
+package com.sms.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.model.OutboxEvent;
+import com.sms.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes domain events to the outbox table. Publishing must happen inside the
+ * transaction that makes the change, so the event is stored if and only if the
+ * change commits; the {@link OutboxDispatcher} delivers it afterwards.
+ */
+@Component
+public class DomainEventPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(String.valueOf(aggregateId));
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event payload is not serializable: " + eventType, e);
+        }
+        outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sms.events;
+
+/**
+ * In-process consumer of committed domain events. Every bean implementing this is
+ * picked up by the {@link OutboxDispatcher}.
+ *
+ * Delivery is at least once and in order per aggregate: if {@link #onEvent} throws,
+ * the event and every later event of the same aggregate are retried on the next poll,
+ * including for subscribers that had already accepted them. Handlers must therefore be
+ * idempotent, for example by keeping the set of {@link DomainEvent#getId()}s already
+ * handled. Remembering only the highest id seen is not enough: ids are assigned at
+ * insert, so an event whose transaction committed late can carry a lower id than events
+ * already delivered, and would be dropped.
+ */
+public interface DomainEventSubscriber {
+
+    void onEvent(DomainEvent event) throws Exception;
+
+    default boolean accepts(String aggregateType) {
+        return true;
+    }
+}
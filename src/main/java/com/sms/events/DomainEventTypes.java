@@ -0,0 +1,27 @@
+package com.sms.events;
+
+/**
+ * Aggregate and event type names written to the outbox. Subscribers match on these,
+ * so renaming one is a breaking change for any external sink consumer.
+ */
+public final class DomainEventTypes {
+
+    public static final String COURSE = "course";
+    public static final String STUDENT = "student";
+    public static final String SUBMISSION = "submission";
+
+    public static final String COURSE_CREATED = "CourseCreated";
+    public static final String COURSE_UPDATED = "CourseUpdated";
+    public static final String COURSE_DELETED = "CourseDeleted";
+
+    public static final String STUDENT_REGISTERED = "StudentRegistered";
+    public static final String STUDENT_UPDATED = "StudentUpdated";
+    public static final String STUDENT_ENROLLED = "StudentEnrolled";
+    public static final String STUDENT_UNENROLLED = "StudentUnenrolled";
+
+    public static final String SUBMISSION_CREATED = "SubmissionCreated";
+    public static final String GRADE_RELEASED = "GradeReleased";
+
+    private DomainEventTypes() {
+    }
+}
@@ -0,0 +1,32 @@
+package com.sms.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes an event as one line of JSON, the format shared by the file and socket sinks.
+ */
+final class EventLineWriter {
+
+    private final ObjectMapper objectMapper;
+
+    EventLineWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    void write(DomainEvent event, OutputStream out) throws IOException {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("id", event.getId());
+        line.put("aggregateType", event.getAggregateType());
+        line.put("aggregateId", event.getAggregateId());
+        line.put("type", event.getType());
+        line.put("occurredAt", String.valueOf(event.getOccurredAt()));
+        line.set("payload", objectMapper.readTree(event.getPayload()));
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+        out.flush();
+    }
+}
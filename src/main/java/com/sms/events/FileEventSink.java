@@ -0,0 +1,54 @@
+package com.sms.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends every event to a newline-delimited JSON file ({@code sms.outbox.sink.file}).
+ * A crash between writing and marking the event dispatched repeats the line, so
+ * readers should skip ids they have already seen.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sms.outbox.sink", name = "file")
+public class FileEventSink implements DomainEventSubscriber {
+
+    private final Path path;
+    private final EventLineWriter writer;
+    private OutputStream out;
+
+    public FileEventSink(@Value("${sms.outbox.sink.file}") String path, ObjectMapper objectMapper) {
+        this.path = Path.of(path);
+        this.writer = new EventLineWriter(objectMapper);
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event) throws IOException {
+        if (out == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            out = new BufferedOutputStream(Files.newOutputStream(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        }
+        writer.write(event, out);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.sms.events;
+
+import com.sms.model.OutboxEvent;
+import com.sms.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Polls the outbox and hands pending events to every {@link DomainEventSubscriber}.
+ *
+ * Events are read in batches in id order and delivered one at a time on the scheduler
+ * thread. An event is only marked dispatched after all subscribers accepted it. When a
+ * subscriber fails, the rest of that aggregate's events in the batch are held back so
+ * they are never seen out of order; other aggregates carry on. Polls that hit a failure
+ * back off exponentially up to {@code max-backoff-ms}, and after {@code max-attempts}
+ * failed polls an event is logged and set aside so it cannot block its aggregate forever.
+ *
+ * Assumes one dispatching instance; run the others with {@code sms.outbox.enabled=false}.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    // dispatchBatch outcomes
+    private static final int DRAINED = 0;
+    private static final int MORE = 1;
+    private static final int FAILED = 2;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired(required = false)
+    private List<DomainEventSubscriber> subscribers = List.of();
+
+    @Value("${sms.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${sms.outbox.max-attempts:25}")
+    private int maxAttempts;
+
+    @Value("${sms.outbox.poll-interval-ms:500}")
+    private long pollIntervalMs;
+
+    @Value("${sms.outbox.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${sms.outbox.retention-hours:24}")
+    private int retentionHours;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dead;
+    private long backoffMs;
+    private long nextAttemptAt;
+
+    public OutboxDispatcher(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.delivered = meterRegistry.counter("sms.outbox.events", "outcome", "delivered");
+        this.retried = meterRegistry.counter("sms.outbox.events", "outcome", "retried");
+        this.dead = meterRegistry.counter("sms.outbox.events", "outcome", "dead");
+    }
+
+    @Scheduled(initialDelayString = "${sms.outbox.poll-interval-ms:500}",
+            fixedDelayString = "${sms.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        if (!enabled || System.currentTimeMillis() < nextAttemptAt) {
+            return;
+        }
+        boolean clean;
+        try {
+            // Keep draining while batches come back full and clean
+            int result;
+            do {
+                result = dispatchBatch();
+            } while (result == MORE);
+            clean = result == DRAINED;
+        } catch (Exception e) {
+            logger.error("Outbox dispatch failed", e);
+            clean = false;
+        }
+        if (clean) {
+            backoffMs = 0;
+        } else {
+            backoffMs = Math.min(maxBackoffMs, backoffMs == 0 ? pollIntervalMs : backoffMs * 2);
+            nextAttemptAt = System.currentTimeMillis() + backoffMs;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sms.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer removed = transactionTemplate.execute(status -> outboxEventRepository.deleteDispatchedBefore(before));
+        if (removed != null && removed > 0) {
+            logger.debug("Purged {} dispatched outbox events", removed);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.findPending(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return DRAINED;
+        }
+
+        List<Long> done = new ArrayList<>(pending.size());
+        List<Long> failed = new ArrayList<>();
+        Set<String> blocked = new HashSet<>();
+        for (OutboxEvent row : pending) {
+            DomainEvent event = DomainEvent.of(row);
+            String key = event.aggregateKey();
+            if (blocked.contains(key)) {
+                continue;
+            }
+            if (deliver(event)) {
+                done.add(row.getId());
+                delivered.increment();
+            } else if (row.getAttempts() + 1 >= maxAttempts) {
+                logger.error("Giving up on outbox event {} ({} {}) after {} attempts",
+                        row.getId(), event.getType(), key, row.getAttempts() + 1);
+                done.add(row.getId());
+                dead.increment();
+            } else {
+                failed.add(row.getId());
+                blocked.add(key);
+                retried.increment();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                outboxEventRepository.markDispatched(done, now);
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.incrementAttempts(failed);
+            }
+        });
+        if (!failed.isEmpty()) {
+            return FAILED;
+        }
+        return pending.size() == batchSize ? MORE : DRAINED;
+    }
+
+    private boolean deliver(DomainEvent event) {
+        for (DomainEventSubscriber subscriber : subscribers) {
+            if (!subscriber.accepts(event.getAggregateType())) {
+                continue;
+            }
+            try {
+                subscriber.onEvent(event);
+            } catch (Exception e) {
+                logger.warn("Subscriber {} failed on event {} ({})", subscriber.getClass().getSimpleName(),
+                        event.getId(), event.getType(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.sms.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Streams every event as a line of JSON to a TCP listener ({@code sms.outbox.sink.socket},
+ * as {@code host:port}). The connection is opened on first use and reopened after a
+ * failure; events that could not be written stay in the outbox and are retried.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sms.outbox.sink", name = "socket")
+public class SocketEventSink implements DomainEventSubscriber {
+
+    private static final int CONNECT_TIMEOUT_MS = 2000;
+
+    private final String host;
+    private final int port;
+    private final EventLineWriter writer;
+    private Socket socket;
+    private OutputStream out;
+
+    public SocketEventSink(@Value("${sms.outbox.sink.socket}") String address, ObjectMapper objectMapper) {
+        int colon = address.lastIndexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("sms.outbox.sink.socket must be host:port, got " + address);
+        }
+        this.host = address.substring(0, colon);
+        this.port = Integer.parseInt(address.substring(colon + 1));
+        this.writer = new EventLineWriter(objectMapper);
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event) throws IOException {
+        try {
+            if (out == null) {
+                socket = new Socket();
+                socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+                out = new BufferedOutputStream(socket.getOutputStream());
+            }
+            writer.write(event, out);
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException ignored) {
+            // already broken
+        }
+        socket = null;
+        out = null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sms.exception;
+
+/**
+ * Base class for expected, typed failures. These exceptions carry no stack trace and no
+ * suppressed exceptions: they are control flow for routine errors, not diagnostics, and
+ * filling in the stack is most of the cost of throwing.
+ */
+public abstract class ApiException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final ErrorCode code;
+
+    protected ApiException(ErrorCode code, String message) {
+        super(message, null, false, false);
+        this.code = code;
+    }
+
+    public ErrorCode getCode() {
+        return code;
+    }
+}
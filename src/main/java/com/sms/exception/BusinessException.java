@@ -4,10 +4,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
-public class BusinessException extends RuntimeException {
+public class BusinessException extends ApiException {
     private static final long serialVersionUID = 1L;
 
     public BusinessException(String message) {
-        super(message);
+        super(ErrorCode.BUSINESS_RULE, message);
     }
-}
\ No newline at end of file
+
+    public BusinessException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
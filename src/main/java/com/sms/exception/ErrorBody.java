@@ -0,0 +1,29 @@
+package com.sms.exception;
+
+/**
+ * Immutable error payload for {@link ApiException}s. Shaped like a failed
+ * {@link com.sms.dto.response.ApiResponse} (success, message) plus the error code, and
+ * without a timestamp so the body for a code's default message can be serialized once.
+ */
+public final class ErrorBody {
+    private final boolean success = false;
+    private final String code;
+    private final String message;
+
+    public ErrorBody(ErrorCode code, String message) {
+        this.code = code.name();
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sms.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected failures, each with its HTTP status and default message.
+ *
+ * {@link #exception()} returns one shared, stackless instance per code, so throwing a
+ * routine error (duplicate registration, unknown filter) allocates nothing. Use
+ * {@link #exception(String)} when the message carries request-specific detail.
+ */
+public enum ErrorCode {
+    EMAIL_TAKEN(HttpStatus.CONFLICT, "Email is already in use"),
+    STUDENT_ID_TAKEN(HttpStatus.CONFLICT, "Student ID is already taken"),
+    TEACHER_ID_TAKEN(HttpStatus.CONFLICT, "Teacher ID is already taken"),
+    COURSE_CODE_TAKEN(HttpStatus.CONFLICT, "Course code is already taken"),
+    INVALID_CREDENTIALS(HttpStatus.BAD_REQUEST, "Invalid credentials"),
+    INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "Invalid request parameter"),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "User not found"),
+    STUDENT_NOT_FOUND(HttpStatus.NOT_FOUND, "Student not found"),
+    TEACHER_NOT_FOUND(HttpStatus.NOT_FOUND, "Teacher not found"),
+    COURSE_NOT_FOUND(HttpStatus.NOT_FOUND, "Course not found"),
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "Resource not found"),
+    BUSINESS_RULE(HttpStatus.UNPROCESSABLE_ENTITY, "Request violates a business rule"),
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, slow down");
+
+    private final HttpStatus status;
+    private final String message;
+    private final ApiException shared;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.shared = create(message);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public ApiException exception() {
+        return shared;
+    }
+
+    public ApiException exception(String detailMessage) {
+        return create(detailMessage);
+    }
+
+    private ApiException create(String detailMessage) {
+        return status == HttpStatus.NOT_FOUND
+                ? new ResourceNotFoundException(this, detailMessage)
+                : new BusinessException(this, detailMessage);
+    }
+}
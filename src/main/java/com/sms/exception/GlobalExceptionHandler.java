@@ -1,10 +1,18 @@
 package com.sms.exception;
 
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,6 +24,18 @@ import org.springframework.web.context.request.WebRequest;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorCode, byte[]> cachedBodies = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode code : ErrorCode.values()) {
+            cachedBodies.put(code, serialize(new ErrorBody(code, code.getMessage())));
+        }
+    }
+
     // Handle validation errors (missing fields, etc.)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<?> handleValidationExceptions(
@@ -48,41 +68,36 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
-    // Handle resource not found exceptions
-    @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<?> resourceNotFoundException(
-            ResourceNotFoundException ex, WebRequest request) {
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                new Date(),
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage(),
-                request.getDescription(false)
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    // Handle typed application errors; default-message bodies are pre-serialized per code
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<byte[]> apiException(ApiException ex) {
+        ErrorCode code = ex.getCode();
+        byte[] body = ex.getMessage() != null && ex.getMessage().equals(code.getMessage())
+                ? cachedBodies.get(code)
+                : serialize(new ErrorBody(code, ex.getMessage()));
+        return ResponseEntity.status(code.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
-    // Handle business logic exceptions
-    @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<?> businessException(BusinessException ex, WebRequest request) {
-        ErrorResponse errorResponse = new ErrorResponse(
-                new Date(),
-                HttpStatus.UNPROCESSABLE_ENTITY.value(),
-                "Business Logic Error",
-                ex.getMessage(),
-                request.getDescription(false)
-        );
+    // Failed logins surface as authentication exceptions from the authentication manager
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<byte[]> authenticationException(AuthenticationException ex) {
+        return apiException(ErrorCode.INVALID_CREDENTIALS.exception());
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    private byte[] serialize(ErrorBody body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize error body", e);
+        }
     }
 
     // Handle all other exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> globalExceptionHandler(Exception ex, WebRequest request) {
-        // Log the exception for debugging
-        ex.printStackTrace();
+        logger.error("Unhandled exception", ex);
 
         ErrorResponse errorResponse = new ErrorResponse(
                 new Date(),
@@ -4,10 +4,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ApiException {
     private static final long serialVersionUID = 1L;
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(ErrorCode.RESOURCE_NOT_FOUND, message);
     }
-}
\ No newline at end of file
+
+    public ResourceNotFoundException(ErrorCode code, String message) {
+        super(code, message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sms.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Names of the unique constraints the services rely on, and the translation of a
+ * violation of one of them into its {@link ErrorCode}.
+ *
+ * The names match {@code manage Setup.sql}; the entities declare them explicitly so
+ * schema generation produces the same names on every database.
+ */
+public final class UniqueConstraints {
+
+    public static final String USER_EMAIL = "UK_6dotkott2kjsp8vw4d0m25fb7";
+    public static final String STUDENT_ID = "UK_5mbus2m1tm2acucrp6t627jmx";
+    public static final String TEACHER_ID = "UK_7knr046ecq8hwte27psac5dxe";
+    public static final String COURSE_CODE = "UK_61og8rbqdd2y28rx2et5fdnxd";
+
+    private static final Map<String, ErrorCode> CODES = Map.of(
+            USER_EMAIL.toLowerCase(Locale.ROOT), ErrorCode.EMAIL_TAKEN,
+            STUDENT_ID.toLowerCase(Locale.ROOT), ErrorCode.STUDENT_ID_TAKEN,
+            TEACHER_ID.toLowerCase(Locale.ROOT), ErrorCode.TEACHER_ID_TAKEN,
+            COURSE_CODE.toLowerCase(Locale.ROOT), ErrorCode.COURSE_CODE_TAKEN);
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Returns the typed error for a violation of one of the known constraints, or the
+     * original exception when the violation is something else (a foreign key, a null).
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        // Drivers differ in where they report the constraint (MySQL: "for key 'users.UK_...'",
+        // H2: "PUBLIC.UK_..._INDEX_4"), so match the name anywhere in the cause chain's messages
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message == null) {
+                continue;
+            }
+            String normalized = message.toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, ErrorCode> entry : CODES.entrySet()) {
+                if (normalized.contains(entry.getKey())) {
+                    return entry.getValue().exception();
+                }
+            }
+        }
+        return e;
+    }
+}
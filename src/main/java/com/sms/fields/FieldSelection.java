@@ -0,0 +1,106 @@
+package com.sms.fields;
+
+import com.sms.dto.response.CursorPage;
+import com.sms.exception.ErrorCode;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A parsed {@code fields=} parameter: which fields of a resource to return. {@code id} is
+ * always included, since it is what identifies a row and what cursors page by. Fields come
+ * back in DTO order whatever order they were asked in.
+ */
+public final class FieldSelection {
+
+    private final SparseResource resource;
+    private final List<String> fields;
+    private final boolean needsEntities;
+
+    private FieldSelection(SparseResource resource, List<String> fields, boolean needsEntities) {
+        this.resource = resource;
+        this.fields = fields;
+        this.needsEntities = needsEntities;
+    }
+
+    public static FieldSelection parse(SparseResource resource, String fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!resource.getColumns().containsKey(name) && !resource.getNested().contains(name)) {
+                throw ErrorCode.INVALID_PARAMETER.exception("Unknown field '" + name + "' for " + resource.getLabel()
+                        + "; allowed: " + allowed(resource));
+            }
+            requested.add(name);
+        }
+        requested.add("id");
+
+        List<String> ordered = new ArrayList<>();
+        for (String name : resource.getColumns().keySet()) {
+            if (requested.contains(name)) {
+                ordered.add(name);
+            }
+        }
+        boolean needsEntities = false;
+        for (String name : resource.getNested()) {
+            if (requested.contains(name)) {
+                ordered.add(name);
+                needsEntities = true;
+            }
+        }
+        return new FieldSelection(resource, ordered, needsEntities);
+    }
+
+    public SparseResource getResource() {
+        return resource;
+    }
+
+    List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * True when a nested field was asked for, so rows cannot come from a column projection
+     * and have to be cut down from the full DTOs instead.
+     */
+    public boolean needsEntities() {
+        return needsEntities;
+    }
+
+    public Map<String, Object> select(Object dto) {
+        BeanWrapper bean = new BeanWrapperImpl(dto);
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, bean.getPropertyValue(field));
+        }
+        return row;
+    }
+
+    public List<Map<String, Object>> selectAll(List<?> dtos) {
+        return dtos.stream().map(this::select).collect(Collectors.toList());
+    }
+
+    public CursorPage<Map<String, Object>> selectPage(CursorPage<?> page) {
+        return new CursorPage<>(selectAll(page.getContent()), page.getNextCursor(), page.isHasMore());
+    }
+
+    public static Long idOf(Map<String, Object> row) {
+        return (Long) row.get("id");
+    }
+
+    private static String allowed(SparseResource resource) {
+        List<String> names = new ArrayList<>(resource.getColumns().keySet());
+        names.addAll(resource.getNested());
+        return String.join(",", names);
+    }
+}
@@ -0,0 +1,88 @@
+package com.sms.fields;
+
+import com.sms.dto.response.CursorPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads just the selected columns of a listing as a tuple query, ordered by id. No entity
+ * is loaded, so none of its eager associations (a student's enrolled courses) are fetched
+ * either; a join is only added for a selected field that lives on another table.
+ */
+@Component
+public class SparseFieldQuery {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CursorPage<Map<String, Object>> page(FieldSelection selection, Long after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        return CursorPage.of(list(selection, after == null ? 0L : after, pageSize + 1), pageSize, FieldSelection::idOf);
+    }
+
+    /**
+     * Returns rows with id greater than {@code after}, at most {@code maxRows} of them;
+     * either may be null for no bound.
+     */
+    public List<Map<String, Object>> list(FieldSelection selection, Long after, Integer maxRows) {
+        if (selection.needsEntities()) {
+            throw new IllegalArgumentException("Nested fields cannot be read as columns: " + selection.getFields());
+        }
+        SparseResource resource = selection.getResource();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(resource.getEntityType());
+
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> columns = new ArrayList<>();
+        for (String field : selection.getFields()) {
+            columns.add(path(root, joins, resource.getColumns().get(field)).alias(field));
+        }
+        query.multiselect(columns);
+        if (after != null) {
+            query.where(cb.greaterThan(root.get("id"), after));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (maxRows != null) {
+            typed.setMaxResults(maxRows);
+        }
+        List<Tuple> tuples = typed.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selection.getFields()) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Path<?> path(Root<?> root, Map<String, From<?, ?>> joins, String attributePath) {
+        int dot = attributePath.indexOf('.');
+        if (dot < 0) {
+            return root.get(attributePath);
+        }
+        String association = attributePath.substring(0, dot);
+        From<?, ?> join = joins.computeIfAbsent(association, name -> root.join(name, JoinType.LEFT));
+        return join.get(attributePath.substring(dot + 1));
+    }
+}
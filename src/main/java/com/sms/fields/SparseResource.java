@@ -0,0 +1,82 @@
+package com.sms.fields;
+
+import com.sms.model.Course;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The listings that accept a {@code fields} selection. Each maps the flat fields of its
+ * DTO, in DTO order, to the entity attribute they are read from ({@code teacher.teacherId}
+ * is a left join), and names the nested fields that can only be produced from loaded
+ * entities.
+ */
+public enum SparseResource {
+    STUDENT("students", Student.class, userFields(
+            "studentId", "studentId",
+            "program", "program",
+            "year", "year"), Set.of("enrolledCourses")),
+    TEACHER("teachers", Teacher.class, userFields(
+            "teacherId", "teacherId",
+            "department", "department"), Set.of()),
+    COURSE("courses", Course.class, ordered(
+            "id", "id",
+            "name", "name",
+            "code", "code",
+            "description", "description",
+            "teacherId", "teacher.teacherId",
+            "createdAt", "createdAt",
+            "updatedAt", "updatedAt"), Set.of("schedules"));
+
+    private final String label;
+    private final Class<?> entityType;
+    private final Map<String, String> columns;
+    private final Set<String> nested;
+
+    SparseResource(String label, Class<?> entityType, Map<String, String> columns, Set<String> nested) {
+        this.label = label;
+        this.entityType = entityType;
+        this.columns = columns;
+        this.nested = nested;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    Class<?> getEntityType() {
+        return entityType;
+    }
+
+    Map<String, String> getColumns() {
+        return columns;
+    }
+
+    Set<String> getNested() {
+        return nested;
+    }
+
+    private static Map<String, String> userFields(String... ownFieldAndPath) {
+        Map<String, String> columns = ordered(
+                "id", "id",
+                "name", "name",
+                "email", "email",
+                "role", "role",
+                "status", "status",
+                "createdAt", "createdAt",
+                "updatedAt", "updatedAt");
+        columns.putAll(ordered(ownFieldAndPath));
+        return columns;
+    }
+
+    private static Map<String, String> ordered(String... fieldAndPath) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (int i = 0; i < fieldAndPath.length; i += 2) {
+            columns.put(fieldAndPath[i], fieldAndPath[i + 1]);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,196 @@
+package com.sms.mapper;
+
+import com.sms.dto.CourseDTO;
+import com.sms.dto.ScheduleDTO;
+import com.sms.dto.StudentDTO;
+import com.sms.dto.TeacherDTO;
+import com.sms.dto.UserDTO;
+import com.sms.model.Course;
+import com.sms.model.Schedule;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+import com.sms.model.User;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import com.sms.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Single place for entity and projection to DTO conversion.
+ *
+ * Each mapping touches only the associations its DTO exposes: a course maps its
+ * teacher's business ID and its schedules, a student maps its enrolled courses, and
+ * nothing walks back from a teacher or course to its students or assignments. List
+ * callers load those associations up front (fetch joins or the request batch loaders),
+ * so mapping a list does not load them one row at a time.
+ */
+@Component
+public class DtoMapper {
+
+    // Below this size the fork/join overhead outweighs the mapping work; see MappingBenchmark
+    public static final int PARALLEL_THRESHOLD = 2048;
+
+    public UserDTO toUserDTO(User user) {
+        UserDTO dto = new UserDTO();
+        copyUser(user, dto);
+        return dto;
+    }
+
+    public UserDTO toUserDTO(UserRepository.UserRow row) {
+        UserDTO dto = new UserDTO();
+        dto.setId(row.getId());
+        dto.setName(row.getName());
+        dto.setEmail(row.getEmail());
+        dto.setRole(row.getRole());
+        dto.setStatus(row.getStatus());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        return dto;
+    }
+
+    public TeacherDTO toTeacherDTO(Teacher teacher) {
+        TeacherDTO dto = new TeacherDTO();
+        copyUser(teacher, dto);
+        dto.setTeacherId(teacher.getTeacherId());
+        dto.setDepartment(teacher.getDepartment());
+        // assignedCourses is left unset to avoid the teacher -> course -> teacher cycle
+        return dto;
+    }
+
+    public TeacherDTO toTeacherDTO(TeacherRepository.TeacherRow row) {
+        TeacherDTO dto = new TeacherDTO();
+        dto.setId(row.getId());
+        dto.setName(row.getName());
+        dto.setEmail(row.getEmail());
+        dto.setRole(row.getRole());
+        dto.setStatus(row.getStatus());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        dto.setTeacherId(row.getTeacherId());
+        dto.setDepartment(row.getDepartment());
+        return dto;
+    }
+
+    public StudentDTO toStudentDTO(Student student) {
+        StudentDTO dto = new StudentDTO();
+        copyUser(student, dto);
+        dto.setStudentId(student.getStudentId());
+        dto.setProgram(student.getProgram());
+        dto.setYear(student.getYear());
+
+        Set<Course> courses = student.getEnrolledCourses();
+        Set<CourseDTO> courseDTOs = new HashSet<>(capacityFor(courses));
+        if (courses != null && Hibernate.isInitialized(courses)) {
+            for (Course course : courses) {
+                courseDTOs.add(toCourseDTO(course));
+            }
+        }
+        dto.setEnrolledCourses(courseDTOs);
+        return dto;
+    }
+
+    public StudentDTO toStudentDTO(StudentRepository.StudentRow row) {
+        StudentDTO dto = new StudentDTO();
+        dto.setId(row.getId());
+        dto.setName(row.getName());
+        dto.setEmail(row.getEmail());
+        dto.setRole(row.getRole());
+        dto.setStatus(row.getStatus());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        dto.setStudentId(row.getStudentId());
+        dto.setProgram(row.getProgram());
+        dto.setYear(row.getYear());
+        return dto;
+    }
+
+    public CourseDTO toCourseDTO(Course course) {
+        CourseDTO dto = new CourseDTO();
+        dto.setId(course.getId());
+        dto.setName(course.getName());
+        dto.setCode(course.getCode());
+        dto.setDescription(course.getDescription());
+        dto.setCreatedAt(course.getCreatedAt());
+        dto.setUpdatedAt(course.getUpdatedAt());
+        if (course.getTeacher() != null) {
+            dto.setTeacherId(course.getTeacher().getTeacherId());
+        }
+
+        Set<Schedule> schedules = course.getSchedules();
+        if (schedules != null) {
+            Set<ScheduleDTO> scheduleDTOs = new HashSet<>(capacityFor(schedules));
+            for (Schedule schedule : schedules) {
+                scheduleDTOs.add(toScheduleDTO(schedule));
+            }
+            dto.setSchedules(scheduleDTOs);
+        }
+        return dto;
+    }
+
+    public CourseDTO toCourseDTO(CourseRepository.CourseRow row) {
+        CourseDTO dto = new CourseDTO();
+        dto.setId(row.getId());
+        dto.setName(row.getName());
+        dto.setCode(row.getCode());
+        dto.setTeacherId(row.getTeacherId());
+        dto.setDescription(row.getDescription());
+        dto.setCreatedAt(row.getCreatedAt());
+        dto.setUpdatedAt(row.getUpdatedAt());
+        return dto;
+    }
+
+    public ScheduleDTO toScheduleDTO(Schedule schedule) {
+        return new ScheduleDTO(schedule.getId(), schedule.getDay(), schedule.getStartTime(),
+                schedule.getEndTime(), schedule.getRoom());
+    }
+
+    /**
+     * Maps a list on the calling thread, which mappings that may initialize lazy
+     * associations (students, courses) require: a Hibernate session must not be shared
+     * across threads.
+     */
+    public <S, D> List<D> mapList(Collection<S> source, Function<S, D> mapping) {
+        List<D> result = new ArrayList<>(source.size());
+        for (S item : source) {
+            result.add(mapping.apply(item));
+        }
+        return result;
+    }
+
+    /**
+     * Maps a list whose mapping reads only columns already loaded: users, teachers and
+     * projection rows. Lists of {@link #PARALLEL_THRESHOLD} or more are split across the
+     * common fork/join pool.
+     */
+    public <S, D> List<D> mapFlat(List<S> source, Function<S, D> mapping) {
+        if (source.size() < PARALLEL_THRESHOLD) {
+            return mapList(source, mapping);
+        }
+        return source.parallelStream().map(mapping).collect(Collectors.toList());
+    }
+
+    private void copyUser(User user, UserDTO dto) {
+        dto.setId(user.getId());
+        dto.setName(user.getName());
+        dto.setEmail(user.getEmail());
+        dto.setRole(user.getRole());
+        dto.setStatus(user.getStatus());
+        dto.setCreatedAt(user.getCreatedAt());
+        dto.setUpdatedAt(user.getUpdatedAt());
+    }
+
+    private static int capacityFor(Collection<?> source) {
+        int size = source == null ? 0 : source.size();
+        return Math.max(4, (int) (size / 0.75f) + 1);
+    }
+}
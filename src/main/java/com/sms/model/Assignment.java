@@ -3,7 +3,9 @@ package com.sms.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -13,7 +15,10 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "assignments")
+@Table(name = "assignments", indexes = {
+        @Index(name = "idx_assignments_due_date", columnList = "due_date"),
+        @Index(name = "idx_assignments_updated_at", columnList = "updated_at")
+})
 public class Assignment {
     
     @Id
@@ -22,6 +27,8 @@ public class Assignment {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Course course;
     
     @Column(nullable = false)
@@ -37,6 +44,8 @@ public class Assignment {
     private Integer totalPoints;
     
     @OneToMany(mappedBy = "assignment", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Submission> submissions = new HashSet<>();
     
     @Column(name = "created_at")
@@ -1,5 +1,7 @@
 package com.sms.model;
 
+import com.sms.exception.UniqueConstraints;
+import com.sms.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +13,12 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "courses")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "courses", uniqueConstraints = @UniqueConstraint(name = UniqueConstraints.COURSE_CODE, columnNames = "code"),
+        indexes = {
+                @Index(name = "idx_courses_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_courses_teacher_updated", columnList = "teacher_id, updated_at")
+        })
 public class Course {
     
     @Id
@@ -21,7 +28,7 @@ public class Course {
     @Column(nullable = false)
     private String name;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String code;
     
     @Column(nullable = false, length = 1000)
@@ -29,9 +36,13 @@ public class Course {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Teacher teacher;
     
     @ManyToMany(mappedBy = "enrolledCourses", fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Student> students = new HashSet<>();
 
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)  // Add orphanRemoval
@@ -0,0 +1,69 @@
+package com.sms.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * In-app inbox entry. The unique dedupe key doubles as the ledger that stops the same
+ * reminder being sent twice; delivery status tracks the external channels.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "notifications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notifications_dedupe", columnNames = "dedupe_key"),
+        indexes = {
+                @Index(name = "idx_notifications_user", columnList = "user_id, id"),
+                @Index(name = "idx_notifications_delivery", columnList = "delivery_status, id")
+        })
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    @Column(name = "reference_id", nullable = false)
+    private Long referenceId;
+
+    @Column(name = "dedupe_key", nullable = false, length = 120)
+    private String dedupeKey;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false, length = 20)
+    private DeliveryStatus deliveryStatus;
+
+    @Column(name = "delivery_attempts", nullable = false)
+    private int deliveryAttempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    public enum Type {
+        DEADLINE_REMINDER, GRADE_RELEASED
+    }
+
+    public enum DeliveryStatus {
+        PENDING, DELIVERED, FAILED
+    }
+}
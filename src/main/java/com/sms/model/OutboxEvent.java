@@ -0,0 +1,53 @@
+package com.sms.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "dispatched_at, id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id")
+})
+public class OutboxEvent {
+
+    // Assigned by the database at insert, not at commit, and used as the delivery order.
+    // Concurrent transactions can commit out of id order, so a row may become visible
+    // after rows with higher ids were already delivered.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    // A plain String sized for MEDIUMTEXT; as a @Lob without a length it was TINYTEXT (255 bytes)
+    @Column(nullable = false, length = 16_777_215)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
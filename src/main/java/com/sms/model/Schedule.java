@@ -3,7 +3,9 @@ package com.sms.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
@@ -20,6 +22,8 @@ public class Schedule {
 
     @ManyToOne
     @JoinColumn(name = "course_id") // Matches DB column name
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Course course;
 
     @Enumerated(EnumType.STRING)
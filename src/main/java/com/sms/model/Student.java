@@ -1,10 +1,12 @@
 package com.sms.model;
 
+import com.sms.exception.UniqueConstraints;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -14,10 +16,10 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "students")
+@Table(name = "students", uniqueConstraints = @UniqueConstraint(name = UniqueConstraints.STUDENT_ID, columnNames = "student_id"))
 public class Student extends User {
     
-    @Column(name = "student_id", nullable = false, unique = true)
+    @Column(name = "student_id", nullable = false)
     private String studentId;
     
     @Column(nullable = false)
@@ -37,5 +39,7 @@ public class Student extends User {
             )
         )
     )
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Course> enrolledCourses = new HashSet<>();
 }
@@ -3,7 +3,9 @@ package com.sms.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -11,7 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions", indexes = {
+        @Index(name = "idx_submissions_assignment_student", columnList = "assignment_id, student_id"),
+        @Index(name = "idx_submissions_student_updated", columnList = "student_id, updated_at"),
+        @Index(name = "idx_submissions_updated_at", columnList = "updated_at")
+})
 public class Submission {
     
     @Id
@@ -20,10 +26,14 @@ public class Submission {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignment_id", nullable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Assignment assignment;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Student student;
     
     @Column(name = "submission_date", nullable = false)
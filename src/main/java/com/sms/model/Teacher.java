@@ -1,10 +1,12 @@
 package com.sms.model;
 
+import com.sms.exception.UniqueConstraints;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -14,15 +16,17 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "teachers")
+@Table(name = "teachers", uniqueConstraints = @UniqueConstraint(name = UniqueConstraints.TEACHER_ID, columnNames = "teacher_id"))
 public class Teacher extends User {
     
-    @Column(name = "teacher_id", nullable = false, unique = true)
+    @Column(name = "teacher_id", nullable = false)
     private String teacherId;
     
     @Column(nullable = false)
     private String department;
     
     @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Course> assignedCourses = new HashSet<>();
 }
@@ -1,5 +1,7 @@
 package com.sms.model;
 
+import com.sms.exception.UniqueConstraints;
+import com.sms.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -11,7 +13,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = UniqueConstraints.USER_EMAIL, columnNames = "email"),
+        indexes = @Index(name = "idx_users_role_updated", columnList = "role, updated_at"))
 @Inheritance(strategy = InheritanceType.JOINED)
 public class User {
     
@@ -22,7 +26,7 @@ public class User {
     @Column(nullable = false)
     private String name;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     
     @Column(nullable = false)
@@ -0,0 +1,78 @@
+package com.sms.monitoring;
+
+/**
+ * Per-thread statement and entity-load counters for the request currently being served.
+ *
+ * {@link QueryBudgetFilter} opens a scope around each request and Hibernate reports into
+ * it through {@link QueryCountingInterceptor}. Work on threads without an open scope
+ * (schedulers, async NDJSON writers) is not counted.
+ */
+public final class QueryBudget {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryBudget() {
+    }
+
+    static Scope begin(int budget, boolean failOnExceed) {
+        Scope scope = new Scope(budget, failOnExceed);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The scope for the current thread, or null outside a request.
+     */
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void onStatement() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statements++;
+            if (scope.failOnExceed && scope.statements > scope.budget) {
+                throw new QueryBudgetExceededException(scope.statements, scope.budget);
+            }
+        }
+    }
+
+    static void onEntityLoad() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.entityLoads++;
+        }
+    }
+
+    public static final class Scope {
+        private final int budget;
+        private final boolean failOnExceed;
+        private int statements;
+        private int entityLoads;
+
+        private Scope(int budget, boolean failOnExceed) {
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntityLoads() {
+            return entityLoads;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+
+        public boolean isExceeded() {
+            return statements > budget;
+        }
+    }
+}
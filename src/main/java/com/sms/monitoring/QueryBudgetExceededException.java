@@ -0,0 +1,12 @@
+package com.sms.monitoring;
+
+/**
+ * Thrown from the statement inspector when a request goes over its statement budget
+ * and {@code sms.query-budget.fail-on-exceed} is enabled.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int statements, int budget) {
+        super("Query budget exceeded: " + statements + " statements (budget " + budget + ")");
+    }
+}
@@ -0,0 +1,70 @@
+package com.sms.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link QueryBudget} scope for each request and, once the request completes,
+ * records its statement count and logs and counts requests that went over budget.
+ * Ordered ahead of the Spring Security chain so the user lookup made while
+ * authenticating the request is counted too.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    @Value("${sms.query-budget.max-statements:50}")
+    private int maxStatements;
+
+    @Value("${sms.query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryBudget.Scope scope = QueryBudget.begin(maxStatements, failOnExceed);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryBudget.end();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryBudget.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        meterRegistry.summary("sms.request.statements", "method", request.getMethod(), "uri", uri)
+                .record(scope.getStatements());
+        meterRegistry.summary("sms.request.entity.loads", "method", request.getMethod(), "uri", uri)
+                .record(scope.getEntityLoads());
+
+        if (scope.isExceeded()) {
+            meterRegistry.counter("sms.query.budget.exceeded", "method", request.getMethod(), "uri", uri)
+                    .increment();
+            logger.warn("Query budget exceeded: {} {} ran {} statements and loaded {} entities (budget {})",
+                    request.getMethod(), request.getRequestURI(), scope.getStatements(),
+                    scope.getEntityLoads(), scope.getBudget());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sms.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Development aid: reports the statements and entity loads a request has used so far as
+ * response headers, written just before the body. Enabled by
+ * {@code sms.query-budget.expose-header=true} (set in the dev profile).
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "sms.query-budget.expose-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ENTITY_LOADS_HEADER = "X-Entity-Load-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryBudget.Scope scope = QueryBudget.current();
+        if (scope != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(scope.getStatements()));
+            response.getHeaders().set(ENTITY_LOADS_HEADER, String.valueOf(scope.getEntityLoads()));
+        }
+        return body;
+    }
+}
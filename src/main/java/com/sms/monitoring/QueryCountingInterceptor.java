@@ -0,0 +1,24 @@
+package com.sms.monitoring;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Session-factory wide Hibernate hook that reports every prepared statement and every
+ * hydrated entity to the current {@link QueryBudget} scope.
+ */
+public class QueryCountingInterceptor implements Interceptor, StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryBudget.onStatement();
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryBudget.onEntityLoad();
+        return false;
+    }
+}
@@ -0,0 +1,223 @@
+package com.sms.notification;
+
+import com.sms.model.Notification;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends "assignment due soon" reminders to enrolled students who have not submitted yet.
+ *
+ * Assignments are read in slices of the {@code due_date} index as they come within the
+ * horizon, plus any rows updated since the last refill, and each configured window
+ * (24h and 1h before the deadline by default) is put on a {@link TimingWheel}. Nothing
+ * rescans the assignments table. When a reminder fires, the assignment is re-read to
+ * drop deleted or moved deadlines, and recipients are fanned out in keyset-paged
+ * batches through the {@link NotificationDispatcher} on a single worker thread, which
+ * bounds the load a large evening of deadlines puts on the database.
+ */
+@Component
+public class DeadlineReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineReminderScheduler.class);
+
+    private static final long TICK_MS = 60_000;
+    private static final int WHEEL_SLOTS = 4096;
+    private static final DateTimeFormatter DUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Value("${sms.notifications.enabled:true}")
+    private boolean enabled;
+
+    // Widest first
+    private final List<Duration> windows;
+    private final Duration horizon;
+    private final TimingWheel<String, Reminder> wheel;
+    private final ExecutorService fanOutExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "deadline-reminders");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private LocalDateTime loadedUntil;
+    private LocalDateTime lastRefill;
+
+    public DeadlineReminderScheduler(@Value("${sms.notifications.deadline.windows:24h,1h}") List<Duration> windows,
+                                     @Value("${sms.notifications.deadline.lookahead:1h}") Duration lookahead) {
+        this.windows = new ArrayList<>(windows);
+        this.windows.sort(Comparator.reverseOrder());
+        this.horizon = this.windows.get(0).plus(lookahead);
+        this.wheel = new TimingWheel<>(TICK_MS, WHEEL_SLOTS, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refill();
+    }
+
+    @Scheduled(initialDelayString = "${sms.notifications.deadline.refill-interval-ms:600000}",
+            fixedDelayString = "${sms.notifications.deadline.refill-interval-ms:600000}")
+    public synchronized void refill() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(horizon);
+        LocalDateTime from = loadedUntil == null ? now : loadedUntil;
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            if (until.isAfter(from)) {
+                rows.addAll(jdbcTemplate.query(
+                        "SELECT id, due_date FROM assignments WHERE due_date > ? AND due_date <= ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()},
+                        Timestamp.valueOf(from), Timestamp.valueOf(until)));
+            }
+            if (lastRefill != null) {
+                // Created or moved since the last refill, possibly into the loaded range
+                rows.addAll(jdbcTemplate.query(
+                        "SELECT id, due_date FROM assignments WHERE updated_at >= ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()},
+                        Timestamp.valueOf(lastRefill)));
+            }
+            for (Object[] row : rows) {
+                schedule((Long) row[0], (LocalDateTime) row[1], now, until);
+            }
+            loadedUntil = until;
+            lastRefill = now;
+            logger.debug("Deadline wheel refilled with {} assignments, {} reminders pending", rows.size(), wheel.size());
+        } catch (Exception e) {
+            logger.error("Deadline reminder refill failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sms.notifications.deadline.tick-ms:15000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<Reminder> due;
+        synchronized (this) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        for (Reminder reminder : due) {
+            fanOutExecutor.execute(() -> fanOut(reminder));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private void schedule(long assignmentId, LocalDateTime dueDate, LocalDateTime now, LocalDateTime until) {
+        boolean laterWindowPassed = false;
+        // Narrowest first, so only the tightest window that has already passed still fires
+        for (int i = windows.size() - 1; i >= 0; i--) {
+            Duration window = windows.get(i);
+            String key = assignmentId + ":" + window.toMinutes();
+            LocalDateTime fireAt = dueDate.minus(window);
+            if (!dueDate.isAfter(now) || dueDate.isAfter(until) || (laterWindowPassed && !fireAt.isAfter(now))) {
+                wheel.cancel(key);
+                continue;
+            }
+            laterWindowPassed |= !fireAt.isAfter(now);
+            wheel.schedule(key, new Reminder(assignmentId, window, dueDate), toMillis(fireAt));
+        }
+    }
+
+    private void fanOut(Reminder reminder) {
+        try {
+            List<Object[]> assignment = jdbcTemplate.query(
+                    "SELECT a.title, a.due_date, a.course_id, c.code FROM assignments a " +
+                            "JOIN courses c ON c.id = a.course_id WHERE a.id = ?",
+                    (rs, rowNum) -> new Object[]{rs.getString(1), rs.getTimestamp(2).toLocalDateTime(),
+                            rs.getLong(3), rs.getString(4)},
+                    reminder.assignmentId);
+            if (assignment.isEmpty()) {
+                return;
+            }
+            LocalDateTime dueDate = (LocalDateTime) assignment.get(0)[1];
+            if (!dueDate.equals(reminder.dueDate) || !dueDate.isAfter(LocalDateTime.now())) {
+                return;
+            }
+            String assignmentTitle = (String) assignment.get(0)[0];
+            long courseId = (Long) assignment.get(0)[2];
+            String courseCode = (String) assignment.get(0)[3];
+            String title = "Assignment due soon: " + assignmentTitle;
+            String message = "\"" + assignmentTitle + "\" (" + courseCode + ") is due " + DUE_FORMAT.format(dueDate)
+                    + ". You have not submitted it yet.";
+            String keyPrefix = "DEADLINE:" + reminder.assignmentId + ":" + reminder.window.toMinutes() + ":";
+
+            long after = 0;
+            int sent = 0;
+            int batchSize = dispatcher.getBatchSize();
+            while (true) {
+                List<NotificationMessage> batch = jdbcTemplate.query(
+                        "SELECT sc.student_id, u.email, u.name FROM student_courses sc " +
+                                "JOIN users u ON u.id = sc.student_id " +
+                                "WHERE sc.course_id = ? AND sc.student_id > ? AND u.status = 'ACTIVE' " +
+                                "AND NOT EXISTS (SELECT 1 FROM submissions s " +
+                                "WHERE s.assignment_id = ? AND s.student_id = sc.student_id) " +
+                                "ORDER BY sc.student_id LIMIT ?",
+                        (rs, rowNum) -> new NotificationMessage(rs.getLong(1), rs.getString(2), rs.getString(3),
+                                Notification.Type.DEADLINE_REMINDER, reminder.assignmentId,
+                                keyPrefix + rs.getLong(1), title, message),
+                        courseId, after, reminder.assignmentId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                sent += dispatcher.dispatch(batch);
+                after = batch.get(batch.size() - 1).getUserId();
+            }
+            logger.info("Sent {} deadline reminders for assignment {} ({} before due)",
+                    sent, reminder.assignmentId, reminder.window);
+        } catch (Exception e) {
+            // Notifications already created are deduplicated, so retrying the whole fan-out is safe
+            logger.error("Deadline reminders for assignment {} failed: {}", reminder.assignmentId, e.getMessage());
+            synchronized (this) {
+                wheel.schedule(reminder.assignmentId + ":" + reminder.window.toMinutes(), reminder,
+                        System.currentTimeMillis() + TICK_MS);
+            }
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Reminder {
+        private final long assignmentId;
+        private final Duration window;
+        private final LocalDateTime dueDate;
+
+        private Reminder(long assignmentId, Duration window, LocalDateTime dueDate) {
+            this.assignmentId = assignmentId;
+            this.window = window;
+            this.dueDate = dueDate;
+        }
+    }
+}
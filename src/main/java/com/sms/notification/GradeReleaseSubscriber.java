@@ -0,0 +1,58 @@
+package com.sms.notification;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.events.DomainEvent;
+import com.sms.events.DomainEventSubscriber;
+import com.sms.events.DomainEventTypes;
+import com.sms.model.Notification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Notifies a student when a grade is released. Listens for {@link DomainEventTypes#GRADE_RELEASED}
+ * events, whose payload carries {@code submissionId}, {@code studentId} and
+ * {@code assignmentId}. The outbox event id is part of the dedupe key, so a redelivered
+ * event is ignored while a later regrade notifies again.
+ */
+@Component
+public class GradeReleaseSubscriber implements DomainEventSubscriber {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Override
+    public boolean accepts(String aggregateType) {
+        return DomainEventTypes.SUBMISSION.equals(aggregateType);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) throws Exception {
+        if (!DomainEventTypes.GRADE_RELEASED.equals(event.getType())) {
+            return;
+        }
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        long submissionId = payload.path("submissionId").asLong();
+        long studentId = payload.path("studentId").asLong();
+        long assignmentId = payload.path("assignmentId").asLong();
+
+        List<NotificationMessage> messages = jdbcTemplate.query(
+                "SELECT u.email, u.name, a.title FROM users u, assignments a WHERE u.id = ? AND a.id = ?",
+                (rs, rowNum) -> new NotificationMessage(studentId, rs.getString(1), rs.getString(2),
+                        Notification.Type.GRADE_RELEASED, submissionId,
+                        "GRADE:" + submissionId + ":" + event.getId(),
+                        "Grade released: " + rs.getString(3),
+                        "Your submission for \"" + rs.getString(3) + "\" has been graded."),
+                studentId, assignmentId);
+        dispatcher.dispatch(messages);
+    }
+}
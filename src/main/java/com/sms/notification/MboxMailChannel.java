@@ -0,0 +1,62 @@
+package com.sms.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Local stand-in for an SMTP relay: appends each message to an mbox file
+ * ({@code sms.notifications.mail.mbox}) that any mail client can open.
+ */
+@Component
+@ConditionalOnProperty(prefix = "sms.notifications.mail", name = "mbox")
+public class MboxMailChannel implements NotificationChannel {
+
+    private static final DateTimeFormatter ENVELOPE_DATE =
+            DateTimeFormatter.ofPattern("EEE MMM d HH:mm:ss yyyy", Locale.US);
+
+    private final Path path;
+    private final String from;
+
+    public MboxMailChannel(@Value("${sms.notifications.mail.mbox}") String path,
+                           @Value("${sms.notifications.mail.from:no-reply@sms.local}") String from) {
+        this.path = Path.of(path);
+        this.from = from;
+    }
+
+    @Override
+    public synchronized void send(List<NotificationMessage> batch) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (NotificationMessage message : batch) {
+                out.write("From " + from + ' ' + ENVELOPE_DATE.format(now) + '\n');
+                out.write("From: " + from + '\n');
+                out.write("To: " + message.getName() + " <" + message.getEmail() + ">\n");
+                out.write("Subject: " + message.getTitle() + '\n');
+                out.write("Date: " + DateTimeFormatter.RFC_1123_DATE_TIME.format(now) + '\n');
+                out.write("Message-ID: <" + message.getDedupeKey() + "@sms.local>\n\n");
+                for (String line : message.getMessage().split("\n", -1)) {
+                    out.write(line.startsWith("From ") ? '>' + line : line);
+                    out.write('\n');
+                }
+                out.write('\n');
+            }
+        }
+    }
+}
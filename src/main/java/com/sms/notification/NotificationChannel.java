@@ -0,0 +1,16 @@
+package com.sms.notification;
+
+import java.util.List;
+
+/**
+ * External delivery channel (mail, push, ...). The in-app inbox is not a channel: every
+ * notification is stored there first, and only new ones are passed on to the channels.
+ *
+ * A batch either succeeds or fails as a whole; failed batches are retried later, so a
+ * channel may see the same message more than once and can use
+ * {@link NotificationMessage#getDedupeKey()} to drop repeats.
+ */
+public interface NotificationChannel {
+
+    void send(List<NotificationMessage> batch) throws Exception;
+}
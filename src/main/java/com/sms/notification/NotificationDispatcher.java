@@ -0,0 +1,264 @@
+package com.sms.notification;
+
+import com.sms.model.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores notifications in the inbox and passes the new ones on to every
+ * {@link NotificationChannel}.
+ *
+ * Each batch is written with one batched {@code INSERT IGNORE}; rows that hit the
+ * unique dedupe key are dropped, so replays and overlapping reminder runs never reach
+ * a user twice. Channel sends are paced by a shared rate limit and run on a dedicated
+ * sender thread, so waiting for the limit never holds up the caller, the outbox or the
+ * shared scheduler threads. At most {@code send-queue-batches} batches wait for that
+ * thread; rows beyond that are stored and left to the retry sweep, which also runs on
+ * the sender thread. Batches that fail stay {@code PENDING} and are picked up by the
+ * retry sweep until {@code max-attempts}.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO notifications " +
+            "(user_id, type, reference_id, dedupe_key, title, message, delivery_status, delivery_attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired(required = false)
+    private List<NotificationChannel> channels = List.of();
+
+    @Value("${sms.notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${sms.notifications.batch-size:1000}")
+    private int batchSize;
+
+    private final RateLimiter rateLimiter;
+    private final ThreadPoolExecutor sender;
+    // Batches handed to the sender thread and not sent yet
+    private final AtomicInteger queuedSends = new AtomicInteger();
+    private final AtomicBoolean sweepQueued = new AtomicBoolean();
+    private final Counter created;
+    private final Counter duplicates;
+    private final Counter delivered;
+    private final Counter failed;
+
+    public NotificationDispatcher(@Value("${sms.notifications.rate-per-second:2000}") double ratePerSecond,
+                                  @Value("${sms.notifications.send-queue-batches:100}") int sendQueueBatches,
+                                  MeterRegistry meterRegistry) {
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+        this.sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, sendQueueBatches)), runnable -> {
+            Thread thread = new Thread(runnable, "notification-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.created = meterRegistry.counter("sms.notifications", "outcome", "created");
+        this.duplicates = meterRegistry.counter("sms.notifications", "outcome", "duplicate");
+        this.delivered = meterRegistry.counter("sms.notifications", "outcome", "delivered");
+        this.failed = meterRegistry.counter("sms.notifications", "outcome", "failed");
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Stores a batch and queues whatever was not already there for sending. Returns the
+     * number of new notifications.
+     */
+    public int dispatch(List<NotificationMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<NotificationMessage> fresh = insertNew(batch);
+        duplicates.increment(batch.size() - fresh.size());
+        created.increment(fresh.size());
+        if (!fresh.isEmpty() && !channels.isEmpty()) {
+            queuedSends.incrementAndGet();
+            try {
+                sender.execute(() -> {
+                    try {
+                        send(fresh, 0);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        logger.error("Sending {} notifications failed", fresh.size(), e);
+                    } finally {
+                        queuedSends.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queuedSends.decrementAndGet();
+                logger.debug("Send queue full, {} notifications left to the retry sweep", fresh.size());
+            }
+        }
+        return fresh.size();
+    }
+
+    @Scheduled(initialDelayString = "${sms.notifications.retry-interval-ms:60000}",
+            fixedDelayString = "${sms.notifications.retry-interval-ms:60000}")
+    public void retryPending() {
+        if (channels.isEmpty() || !sweepQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    sweep();
+                } finally {
+                    sweepQueued.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            sweepQueued.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+    }
+
+    private void sweep() {
+        // Batches queued before the sweep may be older than a minute; let them go first
+        if (queuedSends.get() > 0) {
+            return;
+        }
+        // Leave batches that are still in flight to their own dispatch
+        Timestamp olderThan = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));
+        long after = 0;
+        try {
+            while (true) {
+                List<PendingRow> rows = jdbcTemplate.query(
+                        "SELECT n.id, n.user_id, u.email, u.name, n.type, n.reference_id, n.dedupe_key, " +
+                                "n.title, n.message, n.delivery_attempts FROM notifications n " +
+                                "JOIN users u ON u.id = n.user_id " +
+                                "WHERE n.delivery_status = 'PENDING' AND n.created_at < ? AND n.id > ? " +
+                                "ORDER BY n.id LIMIT ?",
+                        (rs, rowNum) -> new PendingRow(rs.getLong(1), new NotificationMessage(rs.getLong(2),
+                                rs.getString(3), rs.getString(4), Notification.Type.valueOf(rs.getString(5)),
+                                rs.getLong(6), rs.getString(7), rs.getString(8), rs.getString(9)), rs.getInt(10)),
+                        olderThan, after, batchSize);
+                if (rows.isEmpty()) {
+                    return;
+                }
+                // Rows in one batch share the retry; the highest attempt count decides when to give up
+                List<NotificationMessage> messages = new ArrayList<>(rows.size());
+                int attempts = 0;
+                for (PendingRow row : rows) {
+                    messages.add(row.message);
+                    attempts = Math.max(attempts, row.attempts);
+                }
+                send(messages, attempts);
+                after = rows.get(rows.size() - 1).id;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Notification retry sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private List<NotificationMessage> insertNew(List<NotificationMessage> batch) {
+        String status = (channels.isEmpty() ? Notification.DeliveryStatus.DELIVERED
+                : Notification.DeliveryStatus.PENDING).name();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+            ps.setLong(1, message.getUserId());
+            ps.setString(2, message.getType().name());
+            ps.setLong(3, message.getReferenceId());
+            ps.setString(4, message.getDedupeKey());
+            ps.setString(5, message.getTitle());
+            ps.setString(6, message.getMessage());
+            ps.setString(7, status);
+            ps.setTimestamp(8, now);
+        })[0];
+        List<NotificationMessage> fresh = new ArrayList<>(batch.size());
+        for (int i = 0; i < counts.length; i++) {
+            // Drivers that rewrite batches cannot say which rows were ignored; send those anyway
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                fresh.add(batch.get(i));
+            }
+        }
+        return fresh;
+    }
+
+    private void send(List<NotificationMessage> batch, int previousAttempts) throws InterruptedException {
+        if (channels.isEmpty()) {
+            return;
+        }
+        rateLimiter.acquire(batch.size());
+        boolean ok = true;
+        for (NotificationChannel channel : channels) {
+            try {
+                channel.send(batch);
+            } catch (Exception e) {
+                logger.warn("Channel {} failed on {} notifications: {}", channel.getClass().getSimpleName(),
+                        batch.size(), e.getMessage());
+                ok = false;
+                break;
+            }
+        }
+
+        Notification.DeliveryStatus status;
+        if (ok) {
+            status = Notification.DeliveryStatus.DELIVERED;
+            delivered.increment(batch.size());
+        } else if (previousAttempts + 1 >= maxAttempts) {
+            status = Notification.DeliveryStatus.FAILED;
+            failed.increment(batch.size());
+        } else {
+            status = Notification.DeliveryStatus.PENDING;
+        }
+        List<String> keys = new ArrayList<>(batch.size());
+        for (NotificationMessage message : batch) {
+            keys.add(message.getDedupeKey());
+        }
+        namedJdbcTemplate.update("UPDATE notifications SET delivery_status = :status, " +
+                        "delivery_attempts = delivery_attempts + 1 WHERE dedupe_key IN (:keys)",
+                new MapSqlParameterSource("status", status.name()).addValue("keys", keys));
+    }
+
+    private static final class PendingRow {
+        private final long id;
+        private final NotificationMessage message;
+        private final int attempts;
+
+        private PendingRow(long id, NotificationMessage message, int attempts) {
+            this.id = id;
+            this.message = message;
+            this.attempts = attempts;
+        }
+    }
+}
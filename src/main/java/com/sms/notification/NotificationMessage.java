@@ -0,0 +1,62 @@
+package com.sms.notification;
+
+import com.sms.model.Notification;
+
+/**
+ * One notification on its way to a user, as handed to {@link NotificationChannel}s.
+ */
+public final class NotificationMessage {
+
+    private final long userId;
+    private final String email;
+    private final String name;
+    private final Notification.Type type;
+    private final long referenceId;
+    private final String dedupeKey;
+    private final String title;
+    private final String message;
+
+    public NotificationMessage(long userId, String email, String name, Notification.Type type,
+                               long referenceId, String dedupeKey, String title, String message) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.type = type;
+        this.referenceId = referenceId;
+        this.dedupeKey = dedupeKey;
+        this.title = title;
+        this.message = message;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Notification.Type getType() {
+        return type;
+    }
+
+    public long getReferenceId() {
+        return referenceId;
+    }
+
+    public String getDedupeKey() {
+        return dedupeKey;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sms.notification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket. {@link #acquire} takes the permits right away and then sleeps off any
+ * debt, so a large batch waits once instead of per message.
+ */
+final class RateLimiter {
+
+    private final double permitsPerNano;
+    private final double maxBurst;
+    private double available;
+    private long lastRefill;
+
+    RateLimiter(double permitsPerSecond) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxBurst = permitsPerSecond;
+        this.available = permitsPerSecond;
+        this.lastRefill = System.nanoTime();
+    }
+
+    void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        available = Math.min(maxBurst, available + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        available -= permits;
+        return available >= 0 ? 0 : (long) (-available / permitsPerNano);
+    }
+}
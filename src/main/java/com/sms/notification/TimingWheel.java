@@ -0,0 +1,103 @@
+package com.sms.notification;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel with a key index. Each slot covers one tick; an entry further
+ * away than one revolution stays in its slot until its own tick comes round. Scheduling,
+ * cancelling and rescheduling a key are O(1), and advancing only touches the slots
+ * that have come due, however many entries are pending.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+class TimingWheel<K, V> {
+
+    private final long tickMs;
+    private final ArrayDeque<Entry<K, V>>[] slots;
+    private final Map<K, Entry<K, V>> index = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMs, int wheelSize, long startMillis) {
+        this.tickMs = tickMs;
+        this.slots = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.currentTick = startMillis / tickMs;
+    }
+
+    /**
+     * Schedules {@code value} under {@code key}, replacing any entry already scheduled
+     * for that key. Times in the past fire on the next advance.
+     */
+    void schedule(K key, V value, long fireAtMillis) {
+        cancel(key);
+        long tick = Math.max(currentTick, fireAtMillis / tickMs);
+        Entry<K, V> entry = new Entry<>(key, value, tick);
+        slots[(int) (tick % slots.length)].add(entry);
+        index.put(key, entry);
+    }
+
+    boolean cancel(K key) {
+        Entry<K, V> entry = index.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        // Removed lazily when its slot is next visited
+        entry.cancelled = true;
+        return true;
+    }
+
+    boolean contains(K key) {
+        return index.containsKey(key);
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    /**
+     * Moves the wheel up to {@code nowMillis} and returns the values that came due.
+     */
+    List<V> advance(long nowMillis) {
+        List<V> due = new ArrayList<>();
+        long target = nowMillis / tickMs;
+        // After a long pause one revolution visits every slot; later ticks would only repeat it
+        long from = Math.max(currentTick, target - slots.length + 1);
+        for (long tick = from; tick <= target; tick++) {
+            Iterator<Entry<K, V>> it = slots[(int) (tick % slots.length)].iterator();
+            while (it.hasNext()) {
+                Entry<K, V> entry = it.next();
+                if (entry.cancelled) {
+                    it.remove();
+                } else if (entry.tick <= target) {
+                    it.remove();
+                    index.remove(entry.key);
+                    due.add(entry.value);
+                }
+            }
+        }
+        // The current slot is visited again next time, so late entries fire without waiting a tick
+        currentTick = target;
+        return due;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long tick;
+        private boolean cancelled;
+
+        private Entry(K key, V value, long tick) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sms.push;
+
+import java.util.Arrays;
+
+/**
+ * One change pushed to connected users. {@code data} is serialized once and shared by
+ * every recipient; {@code id} is the outbox event id and doubles as the resume token.
+ */
+final class PushEvent {
+
+    final long id;
+    final String name;
+    final String data;
+    // Sorted user ids
+    final long[] audience;
+
+    PushEvent(long id, String name, String data, long[] audience) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.audience = audience;
+    }
+
+    boolean isFor(long userId) {
+        return Arrays.binarySearch(audience, userId) >= 0;
+    }
+}
@@ -0,0 +1,91 @@
+package com.sms.push;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sms.events.DomainEvent;
+import com.sms.events.DomainEventSubscriber;
+import com.sms.events.DomainEventTypes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Turns committed domain events into push deltas for the users who can see them:
+ * course changes go to the course's teacher and enrolled students, student changes
+ * and grade releases to that student. The delta carries only the changed entity, so
+ * clients patch their local state instead of refetching whole dashboards.
+ *
+ * Course audiences are read when the event is dispatched, except where the event names
+ * them in an {@code audience} array: a deleted course's enrollments are gone by then.
+ * The array is for routing only and is not pushed.
+ */
+@Component
+public class PushEventSubscriber implements DomainEventSubscriber {
+
+    @Autowired
+    private PushRegistry pushRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void onEvent(DomainEvent event) throws Exception {
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        long[] audience = audienceOf(event, payload);
+        if (audience == null) {
+            return;
+        }
+        if (payload instanceof ObjectNode) {
+            ((ObjectNode) payload).remove("audience");
+        }
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("type", event.getType());
+        data.put("id", event.getAggregateId());
+        data.set("data", payload);
+        pushRegistry.publish(new PushEvent(event.getId(), event.getAggregateType(),
+                objectMapper.writeValueAsString(data), audience));
+    }
+
+    // Sorted user ids, or null when the event is not pushed
+    private long[] audienceOf(DomainEvent event, JsonNode payload) {
+        switch (event.getAggregateType()) {
+            case DomainEventTypes.COURSE -> {
+                JsonNode recipients = payload.path("audience");
+                if (recipients.isArray()) {
+                    long[] users = new long[recipients.size()];
+                    for (int i = 0; i < users.length; i++) {
+                        users[i] = recipients.get(i).asLong();
+                    }
+                    Arrays.sort(users);
+                    return users;
+                }
+                long courseId = Long.parseLong(event.getAggregateId());
+                List<Long> users = jdbcTemplate.queryForList(
+                        "SELECT student_id FROM student_courses WHERE course_id = ? " +
+                                "UNION SELECT teacher_id FROM courses WHERE id = ? AND teacher_id IS NOT NULL " +
+                                "ORDER BY 1",
+                        Long.class, courseId, courseId);
+                return users.stream().mapToLong(Long::longValue).toArray();
+            }
+            case DomainEventTypes.STUDENT -> {
+                return new long[]{Long.parseLong(event.getAggregateId())};
+            }
+            case DomainEventTypes.SUBMISSION -> {
+                if (!DomainEventTypes.GRADE_RELEASED.equals(event.getType())) {
+                    return null;
+                }
+                return new long[]{payload.path("studentId").asLong()};
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+}
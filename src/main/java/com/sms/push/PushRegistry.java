@@ -0,0 +1,269 @@
+package com.sms.push;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open server-sent event streams, keyed by user id.
+ *
+ * Streams are async servlet requests, so an idle connection holds a socket and a small
+ * emitter but no thread. Each stream has its own queue, drained by one of
+ * {@code sms.push.sender-threads} threads at a time, so events reach each client in
+ * order and a client that stops reading only holds up itself. Publishing and replay
+ * only enqueue, under one lock, so a reconnect's replay cannot interleave with live
+ * events.
+ *
+ * A client is dropped, and resumes on reconnect, when a write fails, when more than
+ * {@code sms.push.max-queued-events} events wait for it, or when one write has been
+ * blocked for {@code sms.push.send-timeout-ms}. Only the thread draining a stream
+ * touches its emitter, since a blocked send holds the emitter's lock; a dropped stream
+ * is completed once that send returns, which the container's write timeout bounds.
+ */
+@Component
+@DependsOn("entityManagerFactory") // outbox_events must exist before the resume floor is read
+public class PushRegistry {
+
+    private final Map<Long, Set<Stream>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ReplayBuffer replayBuffer;
+    private final long timeoutMs;
+    private final int maxQueued;
+    private final long sendTimeoutMs;
+    private final Counter dropped;
+    private final ExecutorService senders;
+
+    public PushRegistry(@Value("${sms.push.replay-buffer-size:10000}") int replayBufferSize,
+                        @Value("${sms.push.timeout-ms:1800000}") long timeoutMs,
+                        @Value("${sms.push.sender-threads:4}") int senderThreads,
+                        @Value("${sms.push.max-queued-events:1000}") int maxQueued,
+                        @Value("${sms.push.send-timeout-ms:30000}") long sendTimeoutMs,
+                        JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        Long startId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM outbox_events", Long.class);
+        this.replayBuffer = new ReplayBuffer(replayBufferSize, startId == null ? 0 : startId);
+        this.timeoutMs = timeoutMs;
+        this.maxQueued = maxQueued;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.dropped = meterRegistry.counter("sms.push.dropped");
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("sms.push.connections", connections);
+    }
+
+    /**
+     * Opens a stream for {@code userId}. With a resume token the events the user missed
+     * are replayed first; if they are no longer buffered the client gets a {@code reset}
+     * event and should refetch. A fresh stream starts with a {@code ready} event that
+     * carries the current token.
+     */
+    public SseEmitter connect(long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Stream stream = new Stream(userId, emitter);
+        Runnable disconnect = () -> disconnect(stream);
+        emitter.onCompletion(disconnect);
+        emitter.onTimeout(disconnect);
+        emitter.onError(error -> disconnect.run());
+
+        synchronized (replayBuffer) {
+            if (lastEventId == null) {
+                offer(stream, SseEmitter.event().id(Long.toString(replayBuffer.lastId())).name("ready").data("{}"));
+            } else {
+                List<PushEvent> missed = replayBuffer.since(lastEventId);
+                if (missed != null) {
+                    for (PushEvent event : missed) {
+                        if (event.isFor(userId)) {
+                            offer(stream, toSse(event));
+                        }
+                    }
+                } else {
+                    offer(stream, SseEmitter.event().id(Long.toString(replayBuffer.lastId())).name("reset").data("{}"));
+                }
+            }
+            streams.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(stream);
+            connections.incrementAndGet();
+        }
+        return emitter;
+    }
+
+    void publish(PushEvent event) {
+        synchronized (replayBuffer) {
+            if (!replayBuffer.add(event)) {
+                return;
+            }
+            for (long userId : event.audience) {
+                Set<Stream> userStreams = streams.get(userId);
+                if (userStreams != null) {
+                    for (Stream stream : userStreams) {
+                        // A builder accumulates its output when sent, so each stream gets its own
+                        offer(stream, toSse(event));
+                    }
+                }
+            }
+        }
+    }
+
+    // Keeps proxies and load balancers from closing idle streams, and drops stuck ones
+    @Scheduled(fixedDelayString = "${sms.push.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        streams.values().forEach(userStreams -> {
+            for (Stream stream : userStreams) {
+                long since = stream.sendingSince;
+                if (since != 0 && now - since > sendTimeoutMs) {
+                    close(stream);
+                } else {
+                    offer(stream, SseEmitter.event().comment(""));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        streams.values().forEach(userStreams -> userStreams.forEach(stream -> stream.emitter.complete()));
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(PushEvent event) {
+        return SseEmitter.event().id(Long.toString(event.id)).name(event.name).data(event.data);
+    }
+
+    // Lock order is the replay buffer, then a stream; remove takes the former, so it runs
+    // outside any stream's lock
+    private void offer(Stream stream, SseEmitter.SseEventBuilder sse) {
+        boolean full;
+        synchronized (stream) {
+            if (stream.closed) {
+                return;
+            }
+            full = stream.queue.size() >= maxQueued;
+            if (!full) {
+                stream.queue.add(sse);
+                schedule(stream);
+            }
+        }
+        if (full) {
+            close(stream);
+        }
+    }
+
+    // The client went away: nothing more to send, and no need to complete the emitter
+    private void disconnect(Stream stream) {
+        synchronized (stream) {
+            stream.closed = true;
+            stream.queue.clear();
+        }
+        remove(stream);
+    }
+
+    // Drops a slow client; the emitter is completed by the thread draining it
+    private void close(Stream stream) {
+        synchronized (stream) {
+            if (stream.closed) {
+                return;
+            }
+            stream.closed = true;
+            stream.queue.clear();
+            schedule(stream);
+        }
+        dropped.increment();
+        remove(stream);
+    }
+
+    // Caller holds the stream's lock
+    private void schedule(Stream stream) {
+        if (stream.draining) {
+            return;
+        }
+        stream.draining = true;
+        try {
+            senders.execute(() -> drain(stream));
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    private void drain(Stream stream) {
+        while (true) {
+            SseEmitter.SseEventBuilder sse;
+            synchronized (stream) {
+                if (stream.closed) {
+                    stream.draining = false;
+                    break;
+                }
+                sse = stream.queue.poll();
+                if (sse == null) {
+                    stream.draining = false;
+                    return;
+                }
+            }
+            stream.sendingSince = System.currentTimeMillis();
+            try {
+                stream.emitter.send(sse);
+            } catch (Exception e) {
+                synchronized (stream) {
+                    stream.closed = true;
+                    stream.queue.clear();
+                    stream.draining = false;
+                }
+                remove(stream);
+                stream.emitter.completeWithError(e);
+                return;
+            } finally {
+                stream.sendingSince = 0;
+            }
+        }
+        stream.emitter.complete();
+    }
+
+    private void remove(Stream stream) {
+        Set<Stream> userStreams = streams.get(stream.userId);
+        if (userStreams != null && userStreams.remove(stream)) {
+            connections.decrementAndGet();
+            if (userStreams.isEmpty()) {
+                // A connect adding to this set concurrently re-creates it under the replay lock
+                synchronized (replayBuffer) {
+                    if (userStreams.isEmpty()) {
+                        streams.remove(stream.userId, userStreams);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Stream {
+        private final long userId;
+        private final SseEmitter emitter;
+        // Guarded by the stream's lock
+        private final ArrayDeque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        // When the send in progress started, 0 when none is
+        private volatile long sendingSince;
+
+        Stream(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
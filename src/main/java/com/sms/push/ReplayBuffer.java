@@ -0,0 +1,78 @@
+package com.sms.push;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed-size ring of the most recent push events, in the order they were published, used
+ * to catch up a reconnecting client. Callers synchronize.
+ *
+ * Outbox ids are assigned at insert, not at commit, so publish order is not id order:
+ * an event that committed late arrives after events with higher ids. A resume token is
+ * therefore looked up by position, not compared: the client gets every event published
+ * after the one its token names. A token naming an evicted or unknown event cannot be
+ * resumed from; the exception is the {@code startId} handed out before anything was
+ * published, which stays valid until the ring first overflows.
+ */
+final class ReplayBuffer {
+
+    private final PushEvent[] ring;
+    // Event id -> publish position of its latest copy in the ring
+    private final Map<Long, Long> positions = new HashMap<>();
+    private final long startId;
+    private long added;
+    private long lastId;
+
+    ReplayBuffer(int capacity, long startId) {
+        this.ring = new PushEvent[capacity];
+        this.startId = startId;
+        this.lastId = startId;
+    }
+
+    /** Adds an event, or returns false for a redelivery of one still buffered. */
+    boolean add(PushEvent event) {
+        if (positions.containsKey(event.id)) {
+            return false;
+        }
+        int slot = (int) (added % ring.length);
+        PushEvent evicted = ring[slot];
+        if (evicted != null) {
+            positions.remove(evicted.id);
+        }
+        ring[slot] = event;
+        positions.put(event.id, added);
+        added++;
+        lastId = event.id;
+        return true;
+    }
+
+    /** Token for a client that has seen everything published so far. */
+    long lastId() {
+        return lastId;
+    }
+
+    /**
+     * Buffered events published after the one {@code lastEventId} names, or null when
+     * some may have been lost (evicted, or the token predates this process or comes from
+     * another database).
+     */
+    List<PushEvent> since(long lastEventId) {
+        long first;
+        Long position = positions.get(lastEventId);
+        if (lastEventId == startId && added <= ring.length) {
+            // An event may share the start id if it was pending at startup; resending is harmless
+            first = 0;
+        } else if (position != null) {
+            first = position + 1;
+        } else {
+            return null;
+        }
+        List<PushEvent> events = new ArrayList<>();
+        for (long i = first; i < added; i++) {
+            events.add(ring[(int) (i % ring.length)]);
+        }
+        return events;
+    }
+}
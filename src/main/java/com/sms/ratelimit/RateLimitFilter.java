@@ -0,0 +1,152 @@
+package com.sms.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.exception.ErrorBody;
+import com.sms.exception.ErrorCode;
+import com.sms.security.AuthTokenFilter;
+import com.sms.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of authentication. Each request takes a token from a
+ * bucket keyed by the user ID in its JWT, or by client IP when there is no valid token,
+ * with the limit chosen by the token's role. Requests to {@code /api/auth/**} always use
+ * a stricter per-IP bucket so password guessing is throttled whatever the caller sends.
+ *
+ * The token is only verified here, not looked up, so a rejected request is answered
+ * with 429 and {@code Retry-After} before it touches the database.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String AUTH_PATH = "/api/auth/";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TokenBucketTable buckets;
+    private final Map<String, TokenBucketTable.Rate> rates = new HashMap<>();
+    private byte[] rejectedBody;
+
+    @Override
+    protected void initFilterBean() throws ServletException {
+        // Called again when the container initializes the filter; keep the first table
+        if (buckets != null) {
+            return;
+        }
+        buckets = new TokenBucketTable(properties.getStripes(), properties.getMaxBuckets());
+        properties.getLimits().forEach((name, limit) ->
+                rates.put(name, new TokenBucketTable.Rate(limit.getRequestsPerSecond(), limit.getBurst())));
+        if (!rates.containsKey(RateLimitProperties.ANONYMOUS)) {
+            throw new IllegalStateException("sms.rate-limit.limits must define " + RateLimitProperties.ANONYMOUS);
+        }
+        try {
+            rejectedBody = objectMapper.writeValueAsBytes(
+                    new ErrorBody(ErrorCode.RATE_LIMITED, ErrorCode.RATE_LIMITED.getMessage()));
+        } catch (IOException e) {
+            throw new ServletException("Cannot serialize the rate limit response", e);
+        }
+        Gauge.builder("sms.ratelimit.buckets", buckets, TokenBucketTable::size)
+                .description("Rate limit buckets currently held")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getExemptPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String limitName;
+        String key;
+        if (request.getRequestURI().startsWith(AUTH_PATH)) {
+            limitName = RateLimitProperties.AUTH;
+            key = "auth:" + request.getRemoteAddr();
+        } else {
+            Claims claims = claimsOf(request);
+            limitName = claims != null ? roleOf(claims) : RateLimitProperties.ANONYMOUS;
+            key = claims != null ? "user:" + userOf(claims) : "ip:" + request.getRemoteAddr();
+        }
+
+        TokenBucketTable.Rate rate = rates.getOrDefault(limitName, rates.get(RateLimitProperties.ANONYMOUS));
+        long waitNanos = buckets.tryAcquire(key, rate);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        meterRegistry.counter("sms.ratelimit.rejected", "limit", limitName).increment();
+        logger.debug("Rate limited {} {} for {}", request.getMethod(), request.getRequestURI(), key);
+        reject(response, waitNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${sms.rate-limit.sweep-interval-ms:30000}")
+    public void sweep() {
+        int removed = buckets.sweep();
+        if (removed > 0) {
+            logger.debug("Dropped {} idle rate limit buckets", removed);
+        }
+    }
+
+    private Claims claimsOf(HttpServletRequest request) {
+        String token = AuthTokenFilter.resolveToken(request);
+        return token != null ? jwtUtils.parseClaimsOrNull(token) : null;
+    }
+
+    private static String roleOf(Claims claims) {
+        Object roles = claims.get("roles");
+        if (roles instanceof List<?> list && !list.isEmpty()) {
+            String role = String.valueOf(list.get(0));
+            return role.startsWith(ROLE_PREFIX) ? role.substring(ROLE_PREFIX.length()) : role;
+        }
+        return RateLimitProperties.ANONYMOUS;
+    }
+
+    private static String userOf(Claims claims) {
+        Object id = claims.get("id");
+        return id != null ? id.toString() : claims.getSubject();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(ErrorCode.RATE_LIMITED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sms.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "sms.rate-limit")
+public class RateLimitProperties {
+
+    public static final String ANONYMOUS = "ANONYMOUS";
+    public static final String AUTH = "AUTH";
+
+    private boolean enabled = true;
+
+    // Number of independent bucket tables; a power of two
+    private int stripes = 64;
+
+    // Upper bound on buckets kept across all stripes
+    private int maxBuckets = 100_000;
+
+    private long sweepIntervalMs = 30_000;
+
+    // Keyed by role name, plus ANONYMOUS for unauthenticated callers and AUTH for /api/auth/** per IP
+    private Map<String, Limit> limits = defaultLimits();
+
+    private List<String> exemptPaths = new ArrayList<>(List.of("/actuator/health", "/actuator/prometheus"));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private double requestsPerSecond;
+        private int burst;
+    }
+
+    private static Map<String, Limit> defaultLimits() {
+        Map<String, Limit> limits = new HashMap<>();
+        limits.put("ADMIN", new Limit(50, 200));
+        limits.put("TEACHER", new Limit(20, 100));
+        limits.put("STUDENT", new Limit(10, 50));
+        limits.put(ANONYMOUS, new Limit(5, 20));
+        limits.put(AUTH, new Limit(1, 10));
+        return limits;
+    }
+}
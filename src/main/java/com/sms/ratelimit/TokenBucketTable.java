@@ -0,0 +1,132 @@
+package com.sms.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by caller, split into independent stripes by key hash.
+ *
+ * A bucket is a single {@link AtomicLong} holding its theoretical arrival time (the
+ * generic cell rate form of a token bucket): a request is admitted if pushing that time
+ * one emission interval forward keeps it within {@code burst} intervals of now, and the
+ * update is one compare-and-set, so admission never blocks. A bucket whose time has
+ * fallen behind the clock is full again and can be dropped without changing any
+ * decision, which is what keeps memory bounded: the periodic sweep removes those, and a
+ * stripe at capacity sweeps itself before adding a key. If it is still full, new keys in
+ * that stripe share one overflow bucket until space frees up.
+ */
+final class TokenBucketTable {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    TokenBucketTable(int stripeCount, int maxBuckets) {
+        int count = Integer.highestOneBit(Math.max(1, stripeCount));
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        int perStripe = Math.max(1, maxBuckets / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Takes one token from {@code key}'s bucket. Returns 0 if the request is admitted,
+     * otherwise the nanoseconds until a token becomes available.
+     */
+    long tryAcquire(String key, Rate rate) {
+        long now = System.nanoTime();
+        return acquire(stripeFor(key).bucket(key, now), rate, now);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    /**
+     * Drops every bucket that has refilled completely. Returns the number removed.
+     */
+    int sweep() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            removed += stripe.sweep(now);
+        }
+        return removed;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static long acquire(AtomicLong bucket, Rate rate, long now) {
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + rate.intervalNanos;
+            long excess = next - now - rate.toleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Emission interval and burst tolerance for one limit, precomputed in nanoseconds.
+     */
+    static final class Rate {
+        final long intervalNanos;
+        final long toleranceNanos;
+
+        Rate(double requestsPerSecond, int burst) {
+            this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+            this.toleranceNanos = intervalNanos * Math.max(1, burst);
+        }
+    }
+
+    private static final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE / 2);
+        private final int capacity;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+        }
+
+        AtomicLong bucket(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= capacity && sweep(now) == 0 && buckets.size() >= capacity) {
+                return overflow;
+            }
+            // A fresh bucket starts full: its arrival time is already in the past
+            return buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE / 2));
+        }
+
+        // A request racing the removal may charge a bucket that is already gone; it was
+        // full a moment ago, so at most that one request goes unrecorded
+        int sweep(long now) {
+            int removed = 0;
+            Iterator<Map.Entry<String, AtomicLong>> it = buckets.entrySet().iterator();
+            while (it.hasNext()) {
+                if (it.next().getValue().get() <= now) {
+                    it.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.sms.recommendation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Symmetric sparse course x course matrix of how many students took both courses, in
+ * compressed sparse row form over course positions: the courses taken together with
+ * {@code c} are {@code columns[rowStart[c]..rowStart[c+1])}, ascending, with the student
+ * counts in {@code counts}. {@code enrolled[c]} is the number of students taking {@code c}.
+ */
+final class CoEnrollmentMatrix {
+
+    final int[] rowStart;
+    final int[] columns;
+    final int[] counts;
+    final int[] enrolled;
+
+    private CoEnrollmentMatrix(int[] rowStart, int[] columns, int[] counts, int[] enrolled) {
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.counts = counts;
+        this.enrolled = enrolled;
+    }
+
+    /** Counts pairs from the courses of each student, {@code studentCourses[studentStart[s]..studentStart[s+1])}. */
+    static CoEnrollmentMatrix build(int courses, int[] studentStart, int[] studentCourses) {
+        int students = studentStart.length - 1;
+        int[] courseStart = new int[courses + 1];
+        for (int course : studentCourses) {
+            courseStart[course + 1]++;
+        }
+        int[] enrolled = new int[courses];
+        for (int c = 0; c < courses; c++) {
+            enrolled[c] = courseStart[c + 1];
+            courseStart[c + 1] += courseStart[c];
+        }
+        int[] courseStudents = new int[studentCourses.length];
+        int[] fill = Arrays.copyOf(courseStart, courses);
+        for (int s = 0; s < students; s++) {
+            for (int i = studentStart[s]; i < studentStart[s + 1]; i++) {
+                courseStudents[fill[studentCourses[i]]++] = s;
+            }
+        }
+
+        Rows rows = new Rows(courses);
+        for (int c = 0; c < courses; c++) {
+            for (int i = courseStart[c]; i < courseStart[c + 1]; i++) {
+                int student = courseStudents[i];
+                for (int j = studentStart[student]; j < studentStart[student + 1]; j++) {
+                    if (studentCourses[j] != c) {
+                        rows.add(studentCourses[j], 1);
+                    }
+                }
+            }
+            rows.endRow();
+        }
+        return rows.toMatrix(enrolled);
+    }
+
+    /** Element-wise sum, for a program made of several cohorts. */
+    static CoEnrollmentMatrix sum(int courses, List<CoEnrollmentMatrix> parts) {
+        int[] enrolled = new int[courses];
+        Rows rows = new Rows(courses);
+        for (int c = 0; c < courses; c++) {
+            for (CoEnrollmentMatrix part : parts) {
+                enrolled[c] += part.enrolled[c];
+                for (int k = part.rowStart[c]; k < part.rowStart[c + 1]; k++) {
+                    rows.add(part.columns[k], part.counts[k]);
+                }
+            }
+            rows.endRow();
+        }
+        return rows.toMatrix(enrolled);
+    }
+
+    int nonZeros() {
+        return columns.length;
+    }
+
+    /** Accumulates one row at a time in a dense counter array, then emits it sorted. */
+    private static final class Rows {
+        private final int[] pending;
+        private final int[] touched;
+        private int touchedSize;
+        private final int[] rowStart;
+        private int rows;
+        private int[] columns = new int[1024];
+        private int[] counts = new int[1024];
+        private int size;
+
+        Rows(int courses) {
+            this.pending = new int[courses];
+            this.touched = new int[courses];
+            this.rowStart = new int[courses + 1];
+        }
+
+        void add(int column, int count) {
+            if (pending[column] == 0) {
+                touched[touchedSize++] = column;
+            }
+            pending[column] += count;
+        }
+
+        void endRow() {
+            Arrays.sort(touched, 0, touchedSize);
+            if (size + touchedSize > columns.length) {
+                int capacity = Math.max(columns.length * 2, size + touchedSize);
+                columns = Arrays.copyOf(columns, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+            for (int k = 0; k < touchedSize; k++) {
+                int column = touched[k];
+                columns[size] = column;
+                counts[size++] = pending[column];
+                pending[column] = 0;
+            }
+            touchedSize = 0;
+            rowStart[++rows] = size;
+        }
+
+        CoEnrollmentMatrix toMatrix(int[] enrolled) {
+            return new CoEnrollmentMatrix(rowStart, Arrays.copyOf(columns, size), Arrays.copyOf(counts, size), enrolled);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sms.recommendation;
+
+import java.util.Arrays;
+
+/**
+ * The students of one program and year, their courses, and the co-enrollment counts
+ * among them. Student ids are sorted, so a student is found by binary search.
+ */
+final class Cohort {
+
+    final String program;
+    final String year;
+    final long[] studentIds;
+    final int[] studentStart;
+    final int[] studentCourses;
+    final CoEnrollmentMatrix matrix;
+
+    Cohort(String program, String year, long[] studentIds, int[] studentStart, int[] studentCourses,
+           CoEnrollmentMatrix matrix) {
+        this.program = program;
+        this.year = year;
+        this.studentIds = studentIds;
+        this.studentStart = studentStart;
+        this.studentCourses = studentCourses;
+        this.matrix = matrix;
+    }
+
+    static String key(String program, String year) {
+        return program + '\n' + year;
+    }
+
+    String key() {
+        return key(program, year);
+    }
+
+    int indexOf(long studentId) {
+        return Arrays.binarySearch(studentIds, studentId);
+    }
+
+    int[] coursesOf(int student) {
+        return Arrays.copyOfRange(studentCourses, studentStart[student], studentStart[student + 1]);
+    }
+}
@@ -0,0 +1,154 @@
+package com.sms.recommendation;
+
+import com.sms.dto.RecommendedCourseDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable in-memory index answering "what do students like this one take as well".
+ *
+ * Courses are scored by the co-enrollment counts of the student's own cohort (program
+ * and year), each count divided by the geometric mean of the two courses' enrollments so
+ * that big courses do not win everything. Counts below the minimum support are ignored.
+ * Slots the cohort cannot fill fall back to the whole program, then to the most popular
+ * courses overall.
+ */
+public class CourseRecommendationIndex {
+
+    final long[] courseIds;
+    final String[] courseCodes;
+    final String[] courseNames;
+    final Cohort[] cohorts;
+    final Map<String, CoEnrollmentMatrix> programs;
+    final int[] popularity;
+    final int[] byPopularity;
+    final LocalDateTime loadedAt;
+
+    CourseRecommendationIndex(long[] courseIds, String[] courseCodes, String[] courseNames, Cohort[] cohorts,
+                              Map<String, CoEnrollmentMatrix> programs, LocalDateTime loadedAt) {
+        this.courseIds = courseIds;
+        this.courseCodes = courseCodes;
+        this.courseNames = courseNames;
+        this.cohorts = cohorts;
+        this.programs = programs;
+        this.loadedAt = loadedAt;
+        this.popularity = new int[courseIds.length];
+        for (CoEnrollmentMatrix program : programs.values()) {
+            for (int c = 0; c < popularity.length; c++) {
+                popularity[c] += program.enrolled[c];
+            }
+        }
+        Integer[] order = new Integer[courseIds.length];
+        for (int c = 0; c < order.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(popularity[b], popularity[a]));
+        this.byPopularity = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    static CourseRecommendationIndex empty() {
+        return new CourseRecommendationIndex(new long[0], new String[0], new String[0], new Cohort[0],
+                Collections.emptyMap(), null);
+    }
+
+    public boolean contains(long studentId) {
+        return cohortOf(studentId) != null;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public int getCohortCount() {
+        return cohorts.length;
+    }
+
+    public long getNonZeros() {
+        long nonZeros = 0;
+        for (Cohort cohort : cohorts) {
+            nonZeros += cohort.matrix.nonZeros();
+        }
+        return nonZeros;
+    }
+
+    public List<RecommendedCourseDTO> recommend(long studentId, int limit, int minSupport) {
+        boolean[] excluded = new boolean[courseIds.length];
+        List<RecommendedCourseDTO> result = new ArrayList<>(limit);
+        Cohort cohort = cohortOf(studentId);
+        if (cohort != null) {
+            int[] enrolled = cohort.coursesOf(cohort.indexOf(studentId));
+            for (int course : enrolled) {
+                excluded[course] = true;
+            }
+            addScored(result, cohort.matrix, enrolled, excluded, limit, minSupport, "COHORT");
+            addScored(result, programs.get(cohort.program), enrolled, excluded, limit, minSupport, "PROGRAM");
+        }
+        for (int i = 0; i < byPopularity.length && result.size() < limit; i++) {
+            int course = byPopularity[i];
+            if (!excluded[course] && popularity[course] > 0) {
+                result.add(dto(course, "POPULAR", 0, popularity[course]));
+            }
+        }
+        return result;
+    }
+
+    private void addScored(List<RecommendedCourseDTO> result, CoEnrollmentMatrix matrix, int[] enrolled,
+                           boolean[] excluded, int limit, int minSupport, String basis) {
+        if (matrix == null || enrolled.length == 0 || result.size() >= limit) {
+            return;
+        }
+        int courses = courseIds.length;
+        double[] score = new double[courses];
+        int[] together = new int[courses];
+        int[] candidates = new int[courses];
+        int size = 0;
+        for (int course : enrolled) {
+            for (int k = matrix.rowStart[course]; k < matrix.rowStart[course + 1]; k++) {
+                int other = matrix.columns[k];
+                int count = matrix.counts[k];
+                if (excluded[other] || count < minSupport) {
+                    continue;
+                }
+                if (together[other] == 0) {
+                    candidates[size++] = other;
+                }
+                together[other] += count;
+                score[other] += count / Math.sqrt((double) matrix.enrolled[course] * matrix.enrolled[other]);
+            }
+        }
+        // Partial selection: only a handful of the candidates are returned
+        while (result.size() < limit && size > 0) {
+            int bestAt = 0;
+            for (int i = 1; i < size; i++) {
+                int candidate = candidates[i];
+                int best = candidates[bestAt];
+                if (score[candidate] > score[best] || (score[candidate] == score[best] && candidate < best)) {
+                    bestAt = i;
+                }
+            }
+            int course = candidates[bestAt];
+            candidates[bestAt] = candidates[--size];
+            excluded[course] = true;
+            result.add(dto(course, basis, score[course], together[course]));
+        }
+    }
+
+    private Cohort cohortOf(long studentId) {
+        for (Cohort cohort : cohorts) {
+            if (cohort.indexOf(studentId) >= 0) {
+                return cohort;
+            }
+        }
+        return null;
+    }
+
+    private RecommendedCourseDTO dto(int course, String basis, double score, int students) {
+        return new RecommendedCourseDTO(courseIds[course], courseCodes[course], courseNames[course], basis,
+                Math.round(score * 1000) / 1000.0, students);
+    }
+}
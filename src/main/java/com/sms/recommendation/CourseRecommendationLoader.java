@@ -0,0 +1,317 @@
+package com.sms.recommendation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the {@link CourseRecommendationIndex} from {@code student_courses}.
+ *
+ * A full rebuild reads every student with their courses in one pass and builds the
+ * cohort matrices in parallel, one cohort per task. Between full rebuilds an incremental
+ * refresh picks up enrollments and student changes since its previous run, reloads only
+ * the cohorts those students are in (or were in), and re-sums only their programs.
+ * Dropped enrollments leave no trace to find them by, so they wait for the next full
+ * rebuild, as does any change to the set of courses. Both run in a read-only
+ * transaction, so they are served by a replica when read/write routing is enabled.
+ */
+@Component
+public class CourseRecommendationLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseRecommendationLoader.class);
+
+    private static final String STUDENT_COURSES = "SELECT s.id, s.program, s.year, sc.course_id FROM students s " +
+            "LEFT JOIN student_courses sc ON sc.student_id = s.id ";
+    private static final int ID_CHUNK = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${sms.recommendations.overlap-ms:5000}")
+    private long overlapMs;
+
+    @Value("${sms.recommendations.max-incremental-students:10000}")
+    private int maxIncrementalStudents;
+
+    private volatile CourseRecommendationIndex index = CourseRecommendationIndex.empty();
+    private LocalDateTime watermark;
+
+    public CourseRecommendationIndex getIndex() {
+        return index;
+    }
+
+    @Scheduled(initialDelayString = "${sms.recommendations.initial-delay-ms:15000}",
+            fixedDelayString = "${sms.recommendations.full-refresh-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            index = loadAll(loadCourses(), startedAt);
+            watermark = startedAt.minusNanos(overlapMs * 1_000_000);
+            logger.info("Course recommendations rebuilt: {} courses, {} cohorts, {} co-enrollment pairs in {} ms",
+                    index.courseIds.length, index.getCohortCount(), index.getNonZeros(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Course recommendation rebuild failed", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${sms.recommendations.refresh-interval-ms:60000}",
+            fixedDelayString = "${sms.recommendations.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public synchronized void refreshChanged() {
+        if (watermark == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            CourseRecommendationIndex current = index;
+            CourseTable courses = loadCourses();
+            if (!Arrays.equals(courses.ids, current.courseIds)) {
+                index = loadAll(courses, startedAt);
+                watermark = startedAt.minusNanos(overlapMs * 1_000_000);
+                logger.info("Course recommendations rebuilt after course changes in {} ms",
+                        System.currentTimeMillis() - start);
+                return;
+            }
+
+            Timestamp since = Timestamp.valueOf(watermark);
+            List<Long> changed = jdbcTemplate.queryForList(
+                    "SELECT student_id FROM student_courses WHERE enrolled_at > ? " +
+                            "UNION SELECT id FROM users WHERE role = 'STUDENT' AND updated_at > ?",
+                    Long.class, since, since);
+            if (changed.size() > maxIncrementalStudents) {
+                index = loadAll(courses, startedAt);
+            } else if (!changed.isEmpty()) {
+                index = reloadCohorts(current, courses, changed, startedAt);
+                logger.debug("Course recommendations updated for {} students in {} ms",
+                        changed.size(), System.currentTimeMillis() - start);
+            } else {
+                index = new CourseRecommendationIndex(courses.ids, courses.codes, courses.names,
+                        current.cohorts, current.programs, current.loadedAt);
+            }
+            watermark = startedAt.minusNanos(overlapMs * 1_000_000);
+        } catch (Exception e) {
+            logger.error("Course recommendation refresh failed", e);
+        }
+    }
+
+    private CourseRecommendationIndex loadAll(CourseTable courses, LocalDateTime loadedAt) {
+        Map<String, CohortBuilder> builders = new LinkedHashMap<>();
+        jdbcTemplate.query(STUDENT_COURSES + "ORDER BY s.id", rs -> {
+            String program = rs.getString(2);
+            String year = rs.getString(3);
+            long courseId = rs.getLong(4);
+            builders.computeIfAbsent(Cohort.key(program, year), key -> new CohortBuilder(program, year))
+                    .add(rs.getLong(1), rs.wasNull() ? -1 : courses.indexOf(courseId));
+        });
+        List<Cohort> cohorts = build(builders.values(), courses.ids.length);
+        return new CourseRecommendationIndex(courses.ids, courses.codes, courses.names,
+                cohorts.toArray(new Cohort[0]), sumPrograms(cohorts, courses.ids.length, Map.of(), null), loadedAt);
+    }
+
+    private CourseRecommendationIndex reloadCohorts(CourseRecommendationIndex current, CourseTable courses,
+                                                    List<Long> changed, LocalDateTime loadedAt) {
+        // Where the students are now, and where the index last saw them
+        Set<String> keys = new LinkedHashSet<>();
+        for (int from = 0; from < changed.size(); from += ID_CHUNK) {
+            List<Long> chunk = changed.subList(from, Math.min(changed.size(), from + ID_CHUNK));
+            namedJdbcTemplate.query("SELECT DISTINCT program, year FROM students WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", chunk),
+                    rs -> {
+                        keys.add(Cohort.key(rs.getString(1), rs.getString(2)));
+                    });
+        }
+        for (Cohort cohort : current.cohorts) {
+            for (Long studentId : changed) {
+                if (cohort.indexOf(studentId) >= 0) {
+                    keys.add(cohort.key());
+                    break;
+                }
+            }
+        }
+
+        List<CohortBuilder> builders = new ArrayList<>();
+        for (String key : keys) {
+            String[] programAndYear = key.split("\n", 2);
+            CohortBuilder builder = new CohortBuilder(programAndYear[0], programAndYear[1]);
+            jdbcTemplate.query(STUDENT_COURSES + "WHERE s.program = ? AND s.year = ? ORDER BY s.id",
+                    rs -> {
+                        long courseId = rs.getLong(4);
+                        builder.add(rs.getLong(1), rs.wasNull() ? -1 : courses.indexOf(courseId));
+                    }, programAndYear[0], programAndYear[1]);
+            builders.add(builder);
+        }
+        List<Cohort> cohorts = new ArrayList<>();
+        for (Cohort cohort : current.cohorts) {
+            if (!keys.contains(cohort.key())) {
+                cohorts.add(cohort);
+            }
+        }
+        cohorts.addAll(build(builders, courses.ids.length));
+
+        Set<String> programs = builders.stream().map(builder -> builder.program).collect(Collectors.toSet());
+        return new CourseRecommendationIndex(courses.ids, courses.codes, courses.names, cohorts.toArray(new Cohort[0]),
+                sumPrograms(cohorts, courses.ids.length, current.programs, programs), loadedAt);
+    }
+
+    private static List<Cohort> build(Iterable<CohortBuilder> builders, int courses) {
+        List<CohortBuilder> nonEmpty = new ArrayList<>();
+        for (CohortBuilder builder : builders) {
+            if (builder.students.size() > 0) {
+                nonEmpty.add(builder);
+            }
+        }
+        // One cohort per task
+        return nonEmpty.parallelStream().map(builder -> builder.build(courses)).collect(Collectors.toList());
+    }
+
+    /** Program matrices: the ones in {@code changed} (all when null) summed again, the rest reused. */
+    private static Map<String, CoEnrollmentMatrix> sumPrograms(List<Cohort> cohorts, int courses,
+                                                              Map<String, CoEnrollmentMatrix> previous,
+                                                              Set<String> changed) {
+        Map<String, List<CoEnrollmentMatrix>> byProgram = new HashMap<>();
+        for (Cohort cohort : cohorts) {
+            byProgram.computeIfAbsent(cohort.program, program -> new ArrayList<>()).add(cohort.matrix);
+        }
+        Map<String, CoEnrollmentMatrix> programs = new ConcurrentHashMap<>();
+        byProgram.entrySet().parallelStream().forEach(entry -> {
+            String program = entry.getKey();
+            CoEnrollmentMatrix reused = changed == null || changed.contains(program) ? null : previous.get(program);
+            programs.put(program, reused != null ? reused : CoEnrollmentMatrix.sum(courses, entry.getValue()));
+        });
+        return programs;
+    }
+
+    private CourseTable loadCourses() {
+        List<Long> ids = new ArrayList<>();
+        List<String> codes = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, code, name FROM courses ORDER BY id", rs -> {
+            ids.add(rs.getLong(1));
+            codes.add(rs.getString(2));
+            names.add(rs.getString(3));
+        });
+        return new CourseTable(ids.stream().mapToLong(Long::longValue).toArray(),
+                codes.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    private static final class CourseTable {
+        private final long[] ids;
+        private final String[] codes;
+        private final String[] names;
+
+        private CourseTable(long[] ids, String[] codes, String[] names) {
+            this.ids = ids;
+            this.codes = codes;
+            this.names = names;
+        }
+
+        // -1 for a course created since the courses were read
+        int indexOf(long courseId) {
+            int index = Arrays.binarySearch(ids, courseId);
+            return index < 0 ? -1 : index;
+        }
+    }
+
+    /** Collects one cohort's rows, which arrive ordered by student id. */
+    private static final class CohortBuilder {
+        private final String program;
+        private final String year;
+        private final LongList students = new LongList();
+        private final IntList studentStart = new IntList();
+        private final IntList studentCourses = new IntList();
+
+        CohortBuilder(String program, String year) {
+            this.program = program;
+            this.year = year;
+        }
+
+        void add(long studentId, int course) {
+            if (students.size() == 0 || students.last() != studentId) {
+                students.add(studentId);
+                studentStart.add(studentCourses.size());
+            }
+            if (course >= 0) {
+                studentCourses.add(course);
+            }
+        }
+
+        Cohort build(int courses) {
+            studentStart.add(studentCourses.size());
+            int[] start = studentStart.toArray();
+            int[] byStudent = studentCourses.toArray();
+            return new Cohort(program, year, students.toArray(), start, byStudent,
+                    CoEnrollmentMatrix.build(courses, start, byStudent));
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[256];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class LongList {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long last() {
+            return values[size - 1];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
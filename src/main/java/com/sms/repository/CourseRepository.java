@@ -2,14 +2,21 @@ package com.sms.repository;
 
 import com.sms.model.Course;
 import com.sms.model.Teacher;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
@@ -24,4 +31,32 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @EntityGraph(attributePaths = {"assignments"})
     @Query("SELECT c FROM Course c WHERE c.id IN :courseIds")
     List<Course> findCoursesWithAssignmentsByIds(@Param("courseIds") List<Long> courseIds);
+
+    @EntityGraph(attributePaths = {"teacher", "schedules"})
+    List<Course> findWithTeacherAndSchedulesByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"teacher", "schedules"})
+    List<Course> findWithTeacherAndSchedulesByCodeIn(Collection<String> codes);
+
+    List<Course> findByIdGreaterThan(Long afterId, Pageable pageable);
+
+    // Flat rows for NDJSON export; streamed from a forward-only MySQL cursor
+    @Query("SELECT c.id AS id, c.name AS name, c.code AS code, c.description AS description, " +
+            "t.teacherId AS teacherId, c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Course c LEFT JOIN c.teacher t ORDER BY c.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<CourseRow> streamAllRows();
+
+    interface CourseRow {
+        Long getId();
+        String getName();
+        String getCode();
+        String getDescription();
+        String getTeacherId();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,32 @@
+package com.sms.repository;
+
+import com.sms.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :before ORDER BY n.id DESC")
+    List<Notification> findInbox(@Param("userId") Long userId, @Param("before") Long before, Pageable pageable);
+
+    long countByUserIdAndReadAtIsNull(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.id = :id AND n.userId = :userId AND n.readAt IS NULL")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.userId = :userId AND n.readAt IS NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+}
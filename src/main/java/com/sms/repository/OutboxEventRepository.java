@@ -0,0 +1,32 @@
+package com.sms.repository;
+
+import com.sms.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.dispatchedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findPending(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :dispatchedAt, e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
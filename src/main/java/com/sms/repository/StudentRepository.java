@@ -1,12 +1,21 @@
 package com.sms.repository;
 
 import com.sms.model.Student;
+import com.sms.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -14,9 +23,58 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Query("SELECT DISTINCT s FROM Student s " +
             "LEFT JOIN FETCH s.enrolledCourses c " +
             "LEFT JOIN FETCH c.schedules " +
-            "LEFT JOIN FETCH c.assignments " +
             "LEFT JOIN FETCH c.teacher " +
             "WHERE s.id = :id")
     Optional<Student> findStudentWithCoursesById(@Param("id") Long id);
+
+    // Batch gets: enrolled courses are eager, so fetch them, their teachers and schedules in the same query
+    @Query("SELECT DISTINCT s FROM Student s " +
+            "LEFT JOIN FETCH s.enrolledCourses c " +
+            "LEFT JOIN FETCH c.schedules " +
+            "LEFT JOIN FETCH c.teacher " +
+            "WHERE s.id IN :ids")
+    List<Student> findWithCoursesByIdIn(@Param("ids") Collection<Long> ids);
+    @Query("SELECT DISTINCT s FROM Student s " +
+            "LEFT JOIN FETCH s.enrolledCourses c " +
+            "LEFT JOIN FETCH c.schedules " +
+            "LEFT JOIN FETCH c.teacher " +
+            "WHERE s.studentId IN :studentIds")
+    List<Student> findWithCoursesByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
     boolean existsByStudentId(String studentId);
+
+    // Student lists map every enrolled course with its teacher and schedules; fetch them in
+    // one query instead of a select per student and two per course
+    @Query("SELECT DISTINCT s FROM Student s " +
+            "LEFT JOIN FETCH s.enrolledCourses c " +
+            "LEFT JOIN FETCH c.schedules " +
+            "LEFT JOIN FETCH c.teacher " +
+            "ORDER BY s.id")
+    List<Student> findAllWithCourses();
+
+    // Keyset page of ids only; a collection fetch join cannot be limited in SQL
+    @Query("SELECT s.id FROM Student s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Flat rows for NDJSON export; streamed from a forward-only MySQL cursor
+    @Query("SELECT s.id AS id, s.name AS name, s.email AS email, s.role AS role, s.status AS status, " +
+            "s.createdAt AS createdAt, s.updatedAt AS updatedAt, s.studentId AS studentId, " +
+            "s.program AS program, s.year AS year FROM Student s ORDER BY s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<StudentRow> streamAllRows();
+
+    interface StudentRow {
+        Long getId();
+        String getName();
+        String getEmail();
+        User.Role getRole();
+        User.Status getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        String getStudentId();
+        String getProgram();
+        String getYear();
+    }
 }
@@ -1,13 +1,48 @@
 package com.sms.repository;
 
 import com.sms.model.Teacher;
+import com.sms.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     Optional<Teacher> findByTeacherId(String teacherId);
     boolean existsByTeacherId(String teacherId);
+    List<Teacher> findByTeacherIdIn(Collection<String> teacherIds);
+
+    List<Teacher> findByIdGreaterThan(Long afterId, Pageable pageable);
+
+    // Flat rows for NDJSON export; streamed from a forward-only MySQL cursor
+    @Query("SELECT t.id AS id, t.name AS name, t.email AS email, t.role AS role, t.status AS status, " +
+            "t.createdAt AS createdAt, t.updatedAt AS updatedAt, t.teacherId AS teacherId, " +
+            "t.department AS department FROM Teacher t ORDER BY t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TeacherRow> streamAllRows();
+
+    interface TeacherRow {
+        Long getId();
+        String getName();
+        String getEmail();
+        User.Role getRole();
+        User.Status getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        String getTeacherId();
+        String getDepartment();
+    }
 }
@@ -1,13 +1,42 @@
 package com.sms.repository;
 
 import com.sms.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    List<User> findByIdGreaterThan(Long afterId, Pageable pageable);
+
+    // Flat rows for NDJSON export; streamed from a forward-only MySQL cursor
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.role AS role, u.status AS status, " +
+            "u.createdAt AS createdAt, u.updatedAt AS updatedAt FROM User u ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserRow> streamAllRows();
+
+    interface UserRow {
+        Long getId();
+        String getName();
+        String getEmail();
+        User.Role getRole();
+        User.Status getStatus();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
 }
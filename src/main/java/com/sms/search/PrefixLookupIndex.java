@@ -0,0 +1,97 @@
+package com.sms.search;
+
+import com.sms.dto.LookupMatchDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over student IDs, teacher IDs, course codes and user emails.
+ * One trie per key type; the reverse map lets an update drop the entity's old key.
+ */
+@Component
+public class PrefixLookupIndex {
+
+    public enum LookupType {
+        STUDENT_ID, TEACHER_ID, COURSE_CODE, EMAIL
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<LookupType, TernarySearchTrie<LookupMatchDTO>> tries = new EnumMap<>(LookupType.class);
+    private final Map<LookupType, Map<Long, String>> keysById = new EnumMap<>(LookupType.class);
+
+    public PrefixLookupIndex() {
+        for (LookupType type : LookupType.values()) {
+            tries.put(type, new TernarySearchTrie<>());
+            keysById.put(type, new HashMap<>());
+        }
+    }
+
+    public void put(LookupType type, Long id, String key, String label) {
+        if (id == null || key == null || key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            TernarySearchTrie<LookupMatchDTO> trie = tries.get(type);
+            String previous = keysById.get(type).put(id, key);
+            if (previous != null && !previous.equalsIgnoreCase(key)) {
+                trie.remove(previous);
+            }
+            trie.put(key, new LookupMatchDTO(type.name(), key, id, label));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(LookupType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            String previous = keysById.get(type).remove(id);
+            if (previous != null) {
+                tries.get(type).remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matches for the prefix. With no type filter the types are
+     * consulted in declaration order, so identifiers come before emails.
+     */
+    public List<LookupMatchDTO> lookup(String prefix, LookupType typeFilter, int limit) {
+        List<LookupMatchDTO> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (LookupType type : LookupType.values()) {
+                if (typeFilter != null && type != typeFilter) {
+                    continue;
+                }
+                int remaining = limit - matches.size();
+                if (remaining <= 0) {
+                    break;
+                }
+                matches.addAll(tries.get(type).withPrefix(prefix, remaining));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tries.values().stream().mapToInt(TernarySearchTrie::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sms.search;
+
+import com.sms.model.Course;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+import com.sms.model.User;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Feeds the {@link PrefixLookupIndex}: warmed from the repositories at startup and
+ * updated by {@link SearchIndexListener} on register/update/delete.
+ */
+@Component
+public class PrefixLookupIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrefixLookupIndexer.class);
+
+    @Autowired
+    private PrefixLookupIndex prefixLookupIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        userRepository.findAll().forEach(this::indexUser);
+        courseRepository.findAll().forEach(this::indexCourse);
+        logger.info("Prefix lookup index warmed with {} keys in {} ms",
+                prefixLookupIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public void indexUser(User user) {
+        prefixLookupIndex.put(PrefixLookupIndex.LookupType.EMAIL, user.getId(), user.getEmail(), user.getName());
+        if (user instanceof Student student) {
+            prefixLookupIndex.put(PrefixLookupIndex.LookupType.STUDENT_ID, student.getId(),
+                    student.getStudentId(), student.getName());
+        } else if (user instanceof Teacher teacher) {
+            prefixLookupIndex.put(PrefixLookupIndex.LookupType.TEACHER_ID, teacher.getId(),
+                    teacher.getTeacherId(), teacher.getName());
+        }
+    }
+
+    public void indexCourse(Course course) {
+        prefixLookupIndex.put(PrefixLookupIndex.LookupType.COURSE_CODE, course.getId(),
+                course.getCode(), course.getName());
+    }
+
+    public void removeUser(User user) {
+        prefixLookupIndex.remove(PrefixLookupIndex.LookupType.EMAIL, user.getId());
+        if (user instanceof Student) {
+            prefixLookupIndex.remove(PrefixLookupIndex.LookupType.STUDENT_ID, user.getId());
+        } else if (user instanceof Teacher) {
+            prefixLookupIndex.remove(PrefixLookupIndex.LookupType.TEACHER_ID, user.getId());
+        }
+    }
+
+    public void removeCourse(Course course) {
+        prefixLookupIndex.remove(PrefixLookupIndex.LookupType.COURSE_CODE, course.getId());
+    }
+}
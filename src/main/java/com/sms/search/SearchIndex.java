@@ -0,0 +1,306 @@
+package com.sms.search;
+
+import com.sms.dto.SearchResultDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over students, teachers and courses.
+ *
+ * Terms are kept in a sorted map so prefix queries are a sub-map scan, and every term
+ * is also broken into trigrams so misspelled query terms can be matched by edit distance.
+ */
+@Component
+public class SearchIndex {
+
+    public enum DocumentType {
+        STUDENT, TEACHER, COURSE
+    }
+
+    private static final float EXACT_MATCH = 1.0f;
+    private static final float PREFIX_MATCH = 0.6f;
+    private static final float FUZZY_MATCH = 0.4f;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (document key -> field weight)
+    private final NavigableMap<String, Map<String, Float>> postings = new TreeMap<>();
+
+    // trigram -> terms containing it
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+
+    /**
+     * Adds or replaces a document. Each field is a (weight, value) pair, so identifying
+     * fields such as names and codes can rank above free text like descriptions.
+     */
+    public void index(DocumentType type, Long id, String title, String subtitle, Map<String, Float> fields) {
+        String key = key(type, id);
+        Map<String, Float> terms = new HashMap<>();
+        fields.forEach((value, weight) -> {
+            for (String term : tokenize(value)) {
+                terms.merge(term, weight, Math::max);
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            documents.put(key, new IndexedDocument(type, id, title, subtitle, terms.keySet()));
+            terms.forEach((term, weight) -> {
+                Map<String, Float> docs = postings.computeIfAbsent(term, t -> new HashMap<>());
+                if (docs.isEmpty()) {
+                    for (String gram : trigramsOf(term)) {
+                        trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                    }
+                }
+                docs.put(key, weight);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(DocumentType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks documents matching the query. Every query term contributes its best exact,
+     * prefix or fuzzy match, so documents matching more terms rank higher.
+     */
+    public SearchHits search(String query, DocumentType typeFilter, int page, int size) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return new SearchHits(List.of(), 0);
+        }
+
+        Map<String, Float> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String queryTerm : queryTerms) {
+                Map<String, Float> termScores = new HashMap<>();
+                collect(termScores, queryTerm, EXACT_MATCH, postings.get(queryTerm));
+
+                for (Map.Entry<String, Map<String, Float>> entry
+                        : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+                    collect(termScores, queryTerm, PREFIX_MATCH, entry.getValue());
+                }
+
+                if (queryTerm.length() >= MIN_FUZZY_LENGTH) {
+                    int maxDistance = queryTerm.length() <= 6 ? 1 : 2;
+                    for (String candidate : fuzzyCandidates(queryTerm)) {
+                        if (editDistance(queryTerm, candidate, maxDistance) <= maxDistance) {
+                            collect(termScores, queryTerm, FUZZY_MATCH, postings.get(candidate));
+                        }
+                    }
+                }
+
+                termScores.forEach((key, score) -> scores.merge(key, score, Float::sum));
+            }
+
+            List<SearchResultDTO> ranked = new ArrayList<>(scores.size());
+            scores.forEach((key, score) -> {
+                IndexedDocument doc = documents.get(key);
+                if (doc != null && (typeFilter == null || doc.type == typeFilter)) {
+                    ranked.add(new SearchResultDTO(doc.type.name(), doc.id, doc.title, doc.subtitle, score));
+                }
+            });
+            ranked.sort(Comparator.comparing(SearchResultDTO::getScore).reversed()
+                    .thenComparing(SearchResultDTO::getTitle, Comparator.nullsLast(String::compareTo)));
+
+            int from = (int) Math.min((long) page * size, ranked.size());
+            int to = (int) Math.min((long) from + size, ranked.size());
+            return new SearchHits(new ArrayList<>(ranked.subList(from, to)), ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(Map<String, Float> termScores, String queryTerm, float matchWeight, Map<String, Float> docs) {
+        if (docs == null) {
+            return;
+        }
+        docs.forEach((key, fieldWeight) -> termScores.merge(key, matchWeight * fieldWeight, Math::max));
+    }
+
+    private Set<String> fuzzyCandidates(String term) {
+        Map<String, Integer> shared = new HashMap<>();
+        Set<String> grams = trigramsOf(term);
+        for (String gram : grams) {
+            Set<String> terms = trigrams.get(gram);
+            if (terms != null) {
+                for (String candidate : terms) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        // A single edit touches at most three trigrams, so require a reasonable overlap
+        int minShared = Math.max(1, grams.size() - 6);
+        Set<String> candidates = new HashSet<>();
+        shared.forEach((candidate, count) -> {
+            if (count >= minShared && !candidate.equals(term)) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    private void removeInternal(String key) {
+        IndexedDocument existing = documents.remove(key);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.terms) {
+            Map<String, Float> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(key);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : trigramsOf(term)) {
+                    Set<String> terms = trigrams.get(gram);
+                    if (terms != null) {
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            trigrams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        // Keep identifiers such as emails searchable as a whole as well as by their parts
+        String whole = normalized.trim();
+        if (tokens.size() > 1 && whole.indexOf(' ') < 0) {
+            tokens.add(whole);
+        }
+        return tokens;
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        String padded = "$" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Levenshtein distance with an early exit once every cell in a row exceeds the limit.
+     */
+    private static int editDistance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String key(DocumentType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static final class IndexedDocument {
+        private final DocumentType type;
+        private final Long id;
+        private final String title;
+        private final String subtitle;
+        private final Set<String> terms;
+
+        private IndexedDocument(DocumentType type, Long id, String title, String subtitle, Set<String> terms) {
+            this.type = type;
+            this.id = id;
+            this.title = title;
+            this.subtitle = subtitle;
+            this.terms = terms;
+        }
+    }
+
+    public static final class SearchHits {
+        private final List<SearchResultDTO> results;
+        private final long total;
+
+        public SearchHits(List<SearchResultDTO> results, long total) {
+            this.results = results;
+            this.total = total;
+        }
+
+        public List<SearchResultDTO> getResults() {
+            return results;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+}
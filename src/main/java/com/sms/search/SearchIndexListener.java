@@ -0,0 +1,100 @@
+package com.sms.search;
+
+import com.sms.model.Course;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+import com.sms.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the {@link SearchIndex} and {@link PrefixLookupIndex}
+ * in sync with writes. Registered on {@link User} (and so inherited by students and
+ * teachers) and on {@link Course}. Hibernate instantiates it through Spring, so the
+ * indexers are resolved lazily to avoid a cycle with the entity manager factory.
+ *
+ * Callbacks fire at flush, before the transaction commits, so the indexes are only
+ * changed once it has: a rolled back write leaves them untouched. The indexers read the
+ * entity's columns then, so they see its state as committed.
+ */
+public class SearchIndexListener {
+
+    @Autowired
+    private ObjectProvider<SearchIndexer> searchIndexer;
+
+    @Autowired
+    private ObjectProvider<PrefixLookupIndexer> prefixLookupIndexer;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        afterCommit(() -> index(entity));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        afterCommit(() -> remove(entity));
+    }
+
+    private void index(Object entity) {
+        SearchIndexer indexer = searchIndexer.getIfAvailable();
+        if (indexer != null) {
+            if (entity instanceof Student student) {
+                indexer.indexStudent(student);
+            } else if (entity instanceof Teacher teacher) {
+                indexer.indexTeacher(teacher);
+            } else if (entity instanceof Course course) {
+                indexer.indexCourse(course);
+            }
+        }
+
+        PrefixLookupIndexer lookupIndexer = prefixLookupIndexer.getIfAvailable();
+        if (lookupIndexer != null) {
+            if (entity instanceof User user) {
+                lookupIndexer.indexUser(user);
+            } else if (entity instanceof Course course) {
+                lookupIndexer.indexCourse(course);
+            }
+        }
+    }
+
+    private void remove(Object entity) {
+        SearchIndexer indexer = searchIndexer.getIfAvailable();
+        if (indexer != null) {
+            if (entity instanceof Student student) {
+                indexer.remove(SearchIndex.DocumentType.STUDENT, student.getId());
+            } else if (entity instanceof Teacher teacher) {
+                indexer.remove(SearchIndex.DocumentType.TEACHER, teacher.getId());
+            } else if (entity instanceof Course course) {
+                indexer.remove(SearchIndex.DocumentType.COURSE, course.getId());
+            }
+        }
+
+        PrefixLookupIndexer lookupIndexer = prefixLookupIndexer.getIfAvailable();
+        if (lookupIndexer != null) {
+            if (entity instanceof User user) {
+                lookupIndexer.removeUser(user);
+            } else if (entity instanceof Course course) {
+                lookupIndexer.removeCourse(course);
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
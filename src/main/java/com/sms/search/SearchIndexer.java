@@ -0,0 +1,95 @@
+package com.sms.search;
+
+import com.sms.model.Course;
+import com.sms.model.Student;
+import com.sms.model.Teacher;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maps entities to search documents. The index is warmed from the repositories once the
+ * application is ready and kept current afterwards by {@link SearchIndexListener}.
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private static final float IDENTIFIER_WEIGHT = 2.0f;
+    private static final float NAME_WEIGHT = 1.5f;
+    private static final float TEXT_WEIGHT = 1.0f;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        studentRepository.findAll().forEach(this::indexStudent);
+        teacherRepository.findAll().forEach(this::indexTeacher);
+        courseRepository.findAll().forEach(this::indexCourse);
+        logger.info("Search index warmed with {} documents in {} ms",
+                searchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    public void indexStudent(Student student) {
+        Map<String, Float> fields = new LinkedHashMap<>();
+        put(fields, student.getStudentId(), IDENTIFIER_WEIGHT);
+        put(fields, student.getEmail(), IDENTIFIER_WEIGHT);
+        put(fields, student.getName(), NAME_WEIGHT);
+        put(fields, student.getProgram(), TEXT_WEIGHT);
+        put(fields, student.getYear(), TEXT_WEIGHT);
+        searchIndex.index(SearchIndex.DocumentType.STUDENT, student.getId(), student.getName(),
+                student.getStudentId() + " - " + student.getProgram(), fields);
+    }
+
+    public void indexTeacher(Teacher teacher) {
+        Map<String, Float> fields = new LinkedHashMap<>();
+        put(fields, teacher.getTeacherId(), IDENTIFIER_WEIGHT);
+        put(fields, teacher.getEmail(), IDENTIFIER_WEIGHT);
+        put(fields, teacher.getName(), NAME_WEIGHT);
+        put(fields, teacher.getDepartment(), TEXT_WEIGHT);
+        searchIndex.index(SearchIndex.DocumentType.TEACHER, teacher.getId(), teacher.getName(),
+                teacher.getTeacherId() + " - " + teacher.getDepartment(), fields);
+    }
+
+    public void indexCourse(Course course) {
+        Map<String, Float> fields = new LinkedHashMap<>();
+        put(fields, course.getCode(), IDENTIFIER_WEIGHT);
+        put(fields, course.getName(), NAME_WEIGHT);
+        put(fields, course.getDescription(), TEXT_WEIGHT);
+        searchIndex.index(SearchIndex.DocumentType.COURSE, course.getId(), course.getName(),
+                course.getCode(), fields);
+    }
+
+    public void remove(SearchIndex.DocumentType type, Long id) {
+        searchIndex.remove(type, id);
+    }
+
+    private void put(Map<String, Float> fields, String value, float weight) {
+        if (value != null) {
+            fields.merge(value, weight, Math::max);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.sms.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compact ternary search trie keyed by case-folded strings. Each node holds a single
+ * character, so shared prefixes such as "S2023" or "CS" are stored once.
+ * Not thread-safe; callers guard access.
+ */
+public class TernarySearchTrie<V> {
+
+    private Node<V> root;
+    private int size;
+
+    public void put(String key, V value) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        root = put(root, fold(key), value, 0);
+    }
+
+    public void remove(String key) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        root = remove(root, fold(key), 0);
+    }
+
+    public V get(String key) {
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        Node<V> node = find(root, fold(key), 0);
+        return node == null ? null : node.value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} values whose keys start with the prefix, in key order.
+     */
+    public List<V> withPrefix(String prefix, int limit) {
+        List<V> matches = new ArrayList<>(Math.min(limit, 16));
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return matches;
+        }
+        Node<V> node = find(root, fold(prefix), 0);
+        if (node == null) {
+            return matches;
+        }
+        if (node.value != null) {
+            matches.add(node.value);
+        }
+        collect(node.mid, matches, limit);
+        return matches;
+    }
+
+    private Node<V> put(Node<V> node, String key, V value, int depth) {
+        char c = key.charAt(depth);
+        if (node == null) {
+            node = new Node<>(c);
+        }
+        if (c < node.c) {
+            node.left = put(node.left, key, value, depth);
+        } else if (c > node.c) {
+            node.right = put(node.right, key, value, depth);
+        } else if (depth < key.length() - 1) {
+            node.mid = put(node.mid, key, value, depth + 1);
+        } else {
+            if (node.value == null) {
+                size++;
+            }
+            node.value = value;
+        }
+        return node;
+    }
+
+    // Clears the key's value and prunes the nodes left holding neither a value nor a
+    // longer key, so removed keys do not keep their chain alive
+    private Node<V> remove(Node<V> node, String key, int depth) {
+        if (node == null) {
+            return null;
+        }
+        char c = key.charAt(depth);
+        if (c < node.c) {
+            node.left = remove(node.left, key, depth);
+        } else if (c > node.c) {
+            node.right = remove(node.right, key, depth);
+        } else if (depth < key.length() - 1) {
+            node.mid = remove(node.mid, key, depth + 1);
+        } else if (node.value != null) {
+            node.value = null;
+            size--;
+        }
+        if (node.value != null || node.mid != null) {
+            return node;
+        }
+        // Unlink the node, hanging its right siblings under the greatest left one
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right != null) {
+            Node<V> greatest = node.left;
+            while (greatest.right != null) {
+                greatest = greatest.right;
+            }
+            greatest.right = node.right;
+        }
+        return node.left;
+    }
+
+    private Node<V> find(Node<V> node, String key, int depth) {
+        while (node != null) {
+            char c = key.charAt(depth);
+            if (c < node.c) {
+                node = node.left;
+            } else if (c > node.c) {
+                node = node.right;
+            } else if (depth < key.length() - 1) {
+                node = node.mid;
+                depth++;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private void collect(Node<V> node, List<V> matches, int limit) {
+        if (node == null || matches.size() >= limit) {
+            return;
+        }
+        collect(node.left, matches, limit);
+        if (matches.size() >= limit) {
+            return;
+        }
+        if (node.value != null) {
+            matches.add(node.value);
+        }
+        collect(node.mid, matches, limit);
+        collect(node.right, matches, limit);
+    }
+
+    private static String fold(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node<V> {
+        private final char c;
+        private Node<V> left;
+        private Node<V> mid;
+        private Node<V> right;
+        private V value;
+
+        private Node(char c) {
+            this.c = c;
+        }
+    }
+}
@@ -82,6 +82,18 @@ public class JwtUtils {
         return claims.get("roles", List.class);
     }
 
+    /**
+     * Parse and verify a JWT, returning its claims, or null if it is invalid.
+     * Unlike {@link #validateJwtToken} this does not log, for callers that only peek at the token.
+     */
+    public Claims parseClaimsOrNull(String token) {
+        try {
+            return Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Validate JWT token.
      */
@@ -1,6 +1,10 @@
 package com.sms.security;
 
+import com.sms.ratelimit.RateLimitFilter;
+import com.sms.ratelimit.RateLimitProperties;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,6 +27,7 @@ import java.util.Arrays;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebSecurityConfig {
 
     @Autowired
@@ -34,6 +39,9 @@ public class WebSecurityConfig {
     @Autowired
     private ExceptionHandlerFilter exceptionHandlerFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -83,13 +91,20 @@ public class WebSecurityConfig {
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
-                        auth.requestMatchers("/api/auth/**").permitAll()
+                        // Async dispatches (NDJSON exports) were already authorized on the initial request
+                        auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers("/api/auth/**").permitAll()
                                 .requestMatchers("/api/test/**").permitAll()
+                                // Health and Prometheus scrapes are unauthenticated; other actuator endpoints are admin-only
+                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 );
 
         http.authenticationProvider(authenticationProvider());
 
+        // Rate limiting runs first so rejected requests never reach the user lookup in the JWT filter
+        http.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
         // Add our exception handling filter BEFORE the JWT filter
         http.addFilterBefore(exceptionHandlerFilter, UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,43 @@
+package com.sms.service;
+
+import com.sms.analytics.AnalyticsSnapshot;
+import com.sms.analytics.AnalyticsSnapshotLoader;
+import com.sms.dto.DepartmentSummaryDTO;
+import com.sms.dto.EnrollmentCountDTO;
+import com.sms.dto.TeacherLoadDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Reporting queries answered from the in-memory analytics snapshot rather than MySQL.
+ * Figures lag the database by at most one refresh interval.
+ */
+@Service
+public class AnalyticsService {
+
+    @Autowired
+    private AnalyticsSnapshotLoader snapshotLoader;
+
+    public List<EnrollmentCountDTO> getEnrollmentCounts(String program, String year) {
+        return snapshotLoader.getSnapshot().enrollmentsByProgramAndYear(blankToNull(program), blankToNull(year));
+    }
+
+    public List<TeacherLoadDTO> getTeacherLoad(String department) {
+        return snapshotLoader.getSnapshot().teacherLoad(blankToNull(department));
+    }
+
+    public List<DepartmentSummaryDTO> getDepartmentTotals() {
+        return snapshotLoader.getSnapshot().departmentTotals();
+    }
+
+    public AnalyticsSnapshot refresh() {
+        snapshotLoader.refresh();
+        return snapshotLoader.getSnapshot();
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
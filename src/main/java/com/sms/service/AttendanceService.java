@@ -0,0 +1,335 @@
+package com.sms.service;
+
+import com.sms.attendance.AttendanceBitmaps;
+import com.sms.attendance.AttendanceRoster;
+import com.sms.attendance.BitSlicedCounter;
+import com.sms.dto.AttendanceRateDTO;
+import com.sms.dto.AttendanceSessionDTO;
+import com.sms.dto.CheckInResultDTO;
+import com.sms.dto.CourseAttendanceDTO;
+import com.sms.exception.ErrorCode;
+import com.sms.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Attendance per schedule occurrence. A session row holds two bitmaps over the course's
+ * roster indices: who was expected (enrolled when the session was first recorded, plus
+ * anyone who checked in later) and who checked in. A check-in is a bitwise OR into the
+ * session row under its row lock, so a bulk check-in of a whole hall is one update, and
+ * self check-ins queue briefly on that row instead of writing a row per student.
+ */
+@Service
+public class AttendanceService {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private AttendanceRoster roster;
+
+    @Value("${sms.attendance.check-in-opens-minutes:15}")
+    private long checkInOpensMinutes;
+
+    @Value("${sms.attendance.term-weeks:16}")
+    private int termWeeks;
+
+    @Transactional
+    public CheckInResultDTO checkInSelf(Long scheduleId) {
+        UserDetailsImpl user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        ScheduleSlot slot = loadSchedule(scheduleId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalTime time = now.toLocalTime();
+        LocalTime opensAt = slot.startTime.minusMinutes(checkInOpensMinutes);
+        if (opensAt.isAfter(slot.startTime)) {
+            opensAt = LocalTime.MIN;
+        }
+        if (slot.day != now.getDayOfWeek() || time.isBefore(opensAt) || time.isAfter(slot.endTime)) {
+            throw ErrorCode.BUSINESS_RULE.exception("Check-in is not open for this session");
+        }
+        CheckInResultDTO result = record(slot, now.toLocalDate(), Map.of(user.getId(), user.getUsername()));
+        if (!result.getRejectedStudentIds().isEmpty()) {
+            throw ErrorCode.BUSINESS_RULE.exception("You are not enrolled in this course");
+        }
+        return result;
+    }
+
+    @Transactional
+    public CheckInResultDTO checkInBulk(Long scheduleId, LocalDate date, List<String> studentNumbers) {
+        ScheduleSlot slot = loadSchedule(scheduleId);
+        if (date.getDayOfWeek() != slot.day || date.isAfter(LocalDate.now())) {
+            throw ErrorCode.INVALID_PARAMETER.exception("Schedule " + scheduleId + " has no session on " + date);
+        }
+        Map<Long, String> students = new LinkedHashMap<>();
+        namedJdbcTemplate.query("SELECT id, student_id FROM students WHERE student_id IN (:numbers)",
+                new MapSqlParameterSource("numbers", studentNumbers),
+                rs -> {
+                    students.put(rs.getLong("id"), rs.getString("student_id"));
+                });
+        CheckInResultDTO result = record(slot, date, students);
+        List<String> known = new ArrayList<>(students.values());
+        for (String number : studentNumbers) {
+            if (!known.contains(number) && !result.getRejectedStudentIds().contains(number)) {
+                result.getRejectedStudentIds().add(number);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public AttendanceSessionDTO getSession(Long scheduleId, LocalDate date) {
+        ScheduleSlot slot = loadSchedule(scheduleId);
+        List<Object[]> sessions = jdbcTemplate.query(
+                "SELECT expected, present FROM attendance_sessions WHERE schedule_id = ? AND session_date = ?",
+                (rs, i) -> new Object[]{rs.getBytes("expected"), rs.getBytes("present")}, scheduleId, date);
+        if (sessions.isEmpty()) {
+            throw ErrorCode.RESOURCE_NOT_FOUND.exception("No attendance recorded for schedule " + scheduleId + " on " + date);
+        }
+        BitSet expected = AttendanceBitmaps.decode((byte[]) sessions.get(0)[0]);
+        BitSet present = AttendanceBitmaps.decode((byte[]) sessions.get(0)[1]);
+        BitSet absent = (BitSet) expected.clone();
+        absent.andNot(present);
+
+        Map<Integer, String> numbers = studentNumbersByIndex(slot.courseId);
+        return new AttendanceSessionDTO(scheduleId, slot.courseId, date, numbersOf(present, numbers), numbersOf(absent, numbers));
+    }
+
+    /**
+     * Attendance of every student in a course over a date range, counted for all students
+     * at once with bit-sliced counters over the session bitmaps.
+     */
+    @Transactional(readOnly = true)
+    public CourseAttendanceDTO getCourseAttendance(Long courseId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusWeeks(termWeeks) : from;
+        if (start.isAfter(end)) {
+            throw ErrorCode.INVALID_PARAMETER.exception("from must not be after to");
+        }
+        List<String> codes = jdbcTemplate.queryForList("SELECT code FROM courses WHERE id = ?", String.class, courseId);
+        if (codes.isEmpty()) {
+            throw ErrorCode.COURSE_NOT_FOUND.exception("Course not found with id: " + courseId);
+        }
+
+        BitSlicedCounter expectedCounts = new BitSlicedCounter();
+        BitSlicedCounter presentCounts = new BitSlicedCounter();
+        BitSet everyone = new BitSet();
+        long[] totals = new long[3];
+        jdbcTemplate.query("SELECT expected, present FROM attendance_sessions WHERE course_id = ? AND session_date BETWEEN ? AND ?",
+                rs -> {
+                    BitSet expected = AttendanceBitmaps.decode(rs.getBytes("expected"));
+                    BitSet present = AttendanceBitmaps.decode(rs.getBytes("present"));
+                    present.and(expected);
+                    expectedCounts.add(expected);
+                    presentCounts.add(present);
+                    everyone.or(expected);
+                    totals[0]++;
+                    totals[1] += expected.cardinality();
+                    totals[2] += present.cardinality();
+                }, courseId, start, end);
+
+        List<AttendanceRateDTO> students = new ArrayList<>();
+        jdbcTemplate.query("SELECT r.roster_index, r.student_id, s.student_id AS student_number FROM attendance_roster r " +
+                        "JOIN students s ON s.id = r.student_id WHERE r.course_id = ? ORDER BY r.roster_index",
+                rs -> {
+                    int index = rs.getInt("roster_index");
+                    if (everyone.get(index)) {
+                        int sessions = expectedCounts.count(index);
+                        int attended = presentCounts.count(index);
+                        students.add(new AttendanceRateDTO(courseId, codes.get(0), rs.getLong("student_id"),
+                                rs.getString("student_number"), sessions, attended, rate(attended, sessions)));
+                    }
+                }, courseId);
+        return new CourseAttendanceDTO(courseId, codes.get(0), start, end, (int) totals[0],
+                rate(totals[2], totals[1]), students);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AttendanceRateDTO> getStudentAttendance(Long studentId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusWeeks(termWeeks) : from;
+        if (start.isAfter(end)) {
+            throw ErrorCode.INVALID_PARAMETER.exception("from must not be after to");
+        }
+        Map<Long, AttendanceRateDTO> byCourse = new LinkedHashMap<>();
+        namedJdbcTemplate.query(
+                "SELECT r.course_id, r.roster_index, c.code, st.student_id AS student_number, a.expected, a.present " +
+                        "FROM attendance_roster r JOIN courses c ON c.id = r.course_id " +
+                        "JOIN students st ON st.id = r.student_id " +
+                        "JOIN attendance_sessions a ON a.course_id = r.course_id AND a.session_date BETWEEN :from AND :to " +
+                        "WHERE r.student_id = :student ORDER BY r.course_id",
+                new MapSqlParameterSource("student", studentId).addValue("from", start).addValue("to", end),
+                rs -> {
+                    int index = rs.getInt("roster_index");
+                    long courseId = rs.getLong("course_id");
+                    AttendanceRateDTO rate = byCourse.get(courseId);
+                    if (rate == null) {
+                        rate = new AttendanceRateDTO(courseId, rs.getString("code"), studentId,
+                                rs.getString("student_number"), 0, 0, null);
+                        byCourse.put(courseId, rate);
+                    }
+                    if (AttendanceBitmaps.decode(rs.getBytes("expected")).get(index)) {
+                        rate.setSessions(rate.getSessions() + 1);
+                        if (AttendanceBitmaps.decode(rs.getBytes("present")).get(index)) {
+                            rate.setAttended(rate.getAttended() + 1);
+                        }
+                    }
+                });
+        List<AttendanceRateDTO> rates = new ArrayList<>(byCourse.values());
+        rates.forEach(rate -> rate.setRate(rate(rate.getAttended(), rate.getSessions())));
+        return rates;
+    }
+
+    // Marks the students present, numbering any enrolled student the roster has not seen.
+    // Numbering needs the course lock, which is taken before the session row lock, the
+    // order lockSession takes them in, so two check-ins cannot wait on each other.
+    private CheckInResultDTO record(ScheduleSlot slot, LocalDate date, Map<Long, String> students) {
+        Map<Long, Integer> indices = roster.indicesOf(slot.courseId, students.keySet());
+        List<Long> unnumbered = new ArrayList<>();
+        for (Long studentId : students.keySet()) {
+            if (!indices.containsKey(studentId)) {
+                unnumbered.add(studentId);
+            }
+        }
+        Collection<Long> enrolled = roster.enrolledAmong(slot.courseId, unnumbered);
+        if (!enrolled.isEmpty()) {
+            roster.lockCourse(slot.courseId);
+        }
+        SessionRow session = lockSession(slot, date);
+        if (!enrolled.isEmpty()) {
+            indices.putAll(roster.assign(slot.courseId, enrolled));
+        }
+
+        List<String> rejected = new ArrayList<>();
+        for (Map.Entry<Long, String> student : students.entrySet()) {
+            Integer index = indices.get(student.getKey());
+            if (index == null) {
+                rejected.add(student.getValue());
+            } else {
+                session.present.set(index);
+                session.expected.set(index);
+            }
+        }
+        int present = session.present.cardinality();
+        jdbcTemplate.update("UPDATE attendance_sessions SET expected = ?, present = ?, present_count = ?, updated_at = ? WHERE id = ?",
+                AttendanceBitmaps.encode(session.expected), AttendanceBitmaps.encode(session.present), present,
+                LocalDateTime.now(), session.id);
+        return new CheckInResultDTO(slot.id, slot.courseId, date, session.expected.cardinality(), present, rejected);
+    }
+
+    /**
+     * Locks the session row, creating it on first use. Creation runs under the course lock
+     * and checks again once it has it, so concurrent first check-ins create one row; a
+     * plain read comes first so that existing sessions never wait on the course lock.
+     */
+    private SessionRow lockSession(ScheduleSlot slot, LocalDate date) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance_sessions WHERE schedule_id = ? AND session_date = ?",
+                Integer.class, slot.id, date);
+        if (existing == null || existing == 0) {
+            roster.lockCourse(slot.courseId);
+            if (selectForUpdate(slot.id, date) == null) {
+                BitSet expected = new BitSet();
+                roster.assign(slot.courseId, roster.enrolledStudents(slot.courseId)).values().forEach(expected::set);
+                jdbcTemplate.update("INSERT INTO attendance_sessions " +
+                                "(schedule_id, course_id, session_date, expected, present, present_count, updated_at) " +
+                                "VALUES (?, ?, ?, ?, ?, 0, ?)",
+                        slot.id, slot.courseId, date, AttendanceBitmaps.encode(expected), new byte[0], LocalDateTime.now());
+            }
+        }
+        return selectForUpdate(slot.id, date);
+    }
+
+    private SessionRow selectForUpdate(long scheduleId, LocalDate date) {
+        List<SessionRow> rows = jdbcTemplate.query(
+                "SELECT id, expected, present FROM attendance_sessions WHERE schedule_id = ? AND session_date = ? FOR UPDATE",
+                (rs, i) -> new SessionRow(rs.getLong("id"), AttendanceBitmaps.decode(rs.getBytes("expected")),
+                        AttendanceBitmaps.decode(rs.getBytes("present"))),
+                scheduleId, date);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private ScheduleSlot loadSchedule(Long scheduleId) {
+        List<ScheduleSlot> slots = jdbcTemplate.query("SELECT id, course_id, day, start_time, end_time FROM schedules WHERE id = ?",
+                (rs, i) -> new ScheduleSlot(rs.getLong("id"), rs.getLong("course_id"), DayOfWeek.valueOf(rs.getString("day")),
+                        rs.getTime("start_time").toLocalTime(), rs.getTime("end_time").toLocalTime()),
+                scheduleId);
+        if (slots.isEmpty()) {
+            throw ErrorCode.RESOURCE_NOT_FOUND.exception("Schedule not found with id: " + scheduleId);
+        }
+        return slots.get(0);
+    }
+
+    private Map<Integer, String> studentNumbersByIndex(long courseId) {
+        Map<Integer, String> numbers = new HashMap<>();
+        jdbcTemplate.query("SELECT r.roster_index, s.student_id FROM attendance_roster r " +
+                        "JOIN students s ON s.id = r.student_id WHERE r.course_id = ?",
+                rs -> {
+                    numbers.put(rs.getInt("roster_index"), rs.getString("student_id"));
+                }, courseId);
+        return numbers;
+    }
+
+    private static List<String> numbersOf(BitSet bits, Map<Integer, String> numbers) {
+        List<String> result = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            String number = numbers.get(i);
+            if (number != null) {
+                result.add(number);
+            }
+        }
+        return result;
+    }
+
+    private static Double rate(long attended, long sessions) {
+        return sessions == 0 ? null : (double) attended / sessions;
+    }
+
+    private static final class ScheduleSlot {
+        private final long id;
+        private final long courseId;
+        private final DayOfWeek day;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+
+        private ScheduleSlot(long id, long courseId, DayOfWeek day, LocalTime startTime, LocalTime endTime) {
+            this.id = id;
+            this.courseId = courseId;
+            this.day = day;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+    }
+
+    private static final class SessionRow {
+        private final long id;
+        private final BitSet expected;
+        private final BitSet present;
+
+        private SessionRow(long id, BitSet expected, BitSet present) {
+            this.id = id;
+            this.expected = expected;
+            this.present = present;
+        }
+    }
+}
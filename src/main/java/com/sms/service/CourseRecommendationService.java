@@ -0,0 +1,44 @@
+package com.sms.service;
+
+import com.sms.dto.RecommendedCourseDTO;
+import com.sms.exception.ErrorCode;
+import com.sms.recommendation.CourseRecommendationIndex;
+import com.sms.recommendation.CourseRecommendationLoader;
+import com.sms.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Course recommendations answered from the in-memory co-enrollment index. Only a student
+ * the index does not know yet costs a database lookup, to tell a new student from an
+ * unknown id.
+ */
+@Service
+public class CourseRecommendationService {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private CourseRecommendationLoader recommendationLoader;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Value("${sms.recommendations.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${sms.recommendations.min-support:2}")
+    private int minSupport;
+
+    public List<RecommendedCourseDTO> getRecommendedCourses(Long studentId, Integer limit) {
+        int size = limit == null ? defaultLimit : Math.max(1, Math.min(MAX_LIMIT, limit));
+        CourseRecommendationIndex index = recommendationLoader.getIndex();
+        if (!index.contains(studentId) && !studentRepository.existsById(studentId)) {
+            throw ErrorCode.STUDENT_NOT_FOUND.exception("Student not found with id: " + studentId);
+        }
+        return index.recommend(studentId, size, minSupport);
+    }
+}
@@ -1,23 +1,45 @@
 package com.sms.service;
 
+import com.sms.batch.RequestLoaders;
 import com.sms.dto.CourseDTO;
-import com.sms.dto.ScheduleDTO;
 import com.sms.dto.request.CourseRequest;
 import com.sms.dto.request.ScheduleRequest;
+import com.sms.dto.response.BatchResult;
+import com.sms.dto.response.CursorPage;
+import com.sms.events.DomainEventPublisher;
+import com.sms.events.DomainEventTypes;
+import com.sms.exception.ErrorCode;
+import com.sms.exception.UniqueConstraints;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseFieldQuery;
+import com.sms.mapper.DtoMapper;
 import com.sms.model.Course;
 import com.sms.model.Schedule;
 import com.sms.model.Teacher;
 import com.sms.repository.CourseRepository;
 import com.sms.repository.TeacherRepository;
+import com.sms.singleflight.SingleFlight;
+import com.sms.singleflight.SingleFlightRegistry;
+import com.sms.sync.SyncTombstoneLog;
+import com.sms.uniqueness.UniqueKeyGuard;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CourseService {
@@ -25,17 +47,42 @@ public class CourseService {
     @Autowired
     private CourseRepository courseRepository;
     
+    @Autowired
+    private DtoMapper dtoMapper;
+    
+    @Autowired
+    private UniqueKeyGuard uniqueKeyGuard;
+    
     @Autowired
     private TeacherRepository teacherRepository;
     
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+    
+    @Autowired
+    private RequestLoaders requestLoaders;
+    
+    @Autowired
+    private SparseFieldQuery sparseFieldQuery;
+    
+    @Autowired
+    private SyncTombstoneLog tombstoneLog;
+    
+    // Concurrent reads of the same course run one query and share its DTO
+    private final SingleFlight<Long, Optional<CourseDTO>> courseById;
+    private final SingleFlight<String, Optional<CourseDTO>> courseByCode;
+    
+    public CourseService(SingleFlightRegistry singleFlightRegistry) {
+        this.courseById = singleFlightRegistry.create("course.by_id");
+        this.courseByCode = singleFlightRegistry.create("course.by_code");
+    }
+    
     @Transactional
     public CourseDTO createCourse(CourseRequest request) {
-        if (courseRepository.existsByCode(request.getCode())) {
-            throw new RuntimeException("Course code is already taken");
-        }
+        uniqueKeyGuard.rejectIfTaken(UniqueKeyGuard.KeyType.COURSE_CODE, request.getCode());
         
         Teacher teacher = teacherRepository.findByTeacherId(request.getTeacherId())
-            .orElseThrow(() -> new RuntimeException("Teacher not found with ID: " + request.getTeacherId()));
+            .orElseThrow(() -> ErrorCode.TEACHER_NOT_FOUND.exception("Teacher not found with ID: " + request.getTeacherId()));
         
         Course course = new Course();
         course.setName(request.getName());
@@ -45,7 +92,8 @@ public class CourseService {
         course.setStudents(new HashSet<>());
         
         // Save the course first to get an ID
-        course = courseRepository.save(course);
+        course = saveUnique(course);
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.COURSE_CODE, course.getCode());
         
         // Add schedules if provided
         if (request.getSchedules() != null && !request.getSchedules().isEmpty()) {
@@ -59,49 +107,102 @@ public class CourseService {
                 schedule.setRoom(scheduleRequest.getRoom());
                 schedules.add(schedule);
             }
-            course.setSchedules(schedules);
+            course.getSchedules().addAll(schedules);
         }
         
-        return convertToDTO(courseRepository.save(course));
+        CourseDTO created = dtoMapper.toCourseDTO(courseRepository.save(course));
+        eventPublisher.publish(DomainEventTypes.COURSE, created.getId(), DomainEventTypes.COURSE_CREATED, created);
+        return created;
     }
     
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return dtoMapper.mapList(withTeachers(courseRepository.findAll()), dtoMapper::toCourseDTO);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<CourseDTO> getCoursesPage(Long after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<CourseDTO> rows = dtoMapper.mapList(withTeachers(courseRepository
+            .findByIdGreaterThan(after == null ? 0L : after, PageRequest.of(0, pageSize + 1, Sort.by("id")))), dtoMapper::toCourseDTO);
+        return CursorPage.of(rows, pageSize, CourseDTO::getId);
+    }
+    
+    // Schedules can only come from loaded courses; every other field is read as columns
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCourseFields(FieldSelection fields) {
+        if (fields.needsEntities()) {
+            return fields.selectAll(getAllCourses());
+        }
+        return sparseFieldQuery.list(fields, null, null);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getCourseFieldsPage(FieldSelection fields, Long after, Integer limit) {
+        if (fields.needsEntities()) {
+            return fields.selectPage(getCoursesPage(after, limit));
+        }
+        return sparseFieldQuery.page(fields, after, limit);
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamCourses(Consumer<CourseDTO> sink) {
+        try (Stream<CourseRepository.CourseRow> rows = courseRepository.streamAllRows()) {
+            rows.forEach(row -> sink.accept(dtoMapper.toCourseDTO(row)));
+        }
     }
     
     public Optional<CourseDTO> getCourseById(Long id) {
-        return courseRepository.findById(id)
-            .map(this::convertToDTO);
+        return courseById.execute(id, () -> courseRepository.findById(id)
+            .map(dtoMapper::toCourseDTO));
     }
     
     public Optional<CourseDTO> getCourseByCode(String code) {
-        return courseRepository.findByCode(code)
-            .map(this::convertToDTO);
+        return courseByCode.execute(code, () -> courseRepository.findByCode(code)
+            .map(dtoMapper::toCourseDTO));
+    }
+    
+    @Transactional(readOnly = true)
+    public BatchResult<CourseDTO> getCoursesBatch(List<Long> ids, List<String> codes) {
+        BatchResult.checkKeyCount(ids, codes);
+        return new BatchResult<CourseDTO>()
+            .add(ids, requestLoaders.coursesById().loadMany(ids), dtoMapper::toCourseDTO)
+            .add(codes, requestLoaders.coursesByCode().loadMany(codes), dtoMapper::toCourseDTO);
+    }
+    
+    // Loads the teachers of a page of courses in one query, so mapping each course's
+    // teacher ID does not initialize its lazy teacher with a query per course
+    private List<Course> withTeachers(List<Course> courses) {
+        requestLoaders.teachersById().loadMany(courses.stream()
+            .map(Course::getTeacher)
+            .filter(Objects::nonNull)
+            .map(Teacher::getId)
+            .collect(Collectors.toSet()));
+        return courses;
     }
     
     public List<CourseDTO> getCoursesByTeacher(Long teacherId) {
         Teacher teacher = teacherRepository.findById(teacherId)
-            .orElseThrow(() -> new RuntimeException("Teacher not found with ID: " + teacherId));
+            .orElseThrow(() -> ErrorCode.TEACHER_NOT_FOUND.exception("Teacher not found with ID: " + teacherId));
         
         return courseRepository.findByTeacher(teacher).stream()
-            .map(this::convertToDTO)
+            .map(dtoMapper::toCourseDTO)
             .collect(Collectors.toList());
     }
     
     @Transactional
     public CourseDTO updateCourse(Long id, CourseRequest request) {
         Course course = courseRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
-        
-        if (!course.getCode().equals(request.getCode()) && 
-            courseRepository.existsByCode(request.getCode())) {
-            throw new RuntimeException("Course code is already taken");
-        }
+            .orElseThrow(() -> ErrorCode.COURSE_NOT_FOUND.exception("Course not found with id: " + id));
         
         Teacher teacher = teacherRepository.findByTeacherId(request.getTeacherId())
-            .orElseThrow(() -> new RuntimeException("Teacher not found with ID: " + request.getTeacherId()));
+            .orElseThrow(() -> ErrorCode.TEACHER_NOT_FOUND.exception("Teacher not found with ID: " + request.getTeacherId()));
+        
+        Teacher previousTeacher = course.getTeacher();
+        if (previousTeacher != null && !previousTeacher.getId().equals(teacher.getId())) {
+            tombstoneLog.recordRemovedFor(DomainEventTypes.COURSE, course.getId(), previousTeacher.getId());
+            // A course handed back within one sync window must not also reach its teacher as removed
+            tombstoneLog.clearRemovedFor(DomainEventTypes.COURSE, course.getId(), teacher.getId());
+        }
         
         course.setName(request.getName());
         course.setCode(request.getCode());
@@ -111,7 +212,6 @@ public class CourseService {
         // Update schedules if provided
         if (request.getSchedules() != null) {
             // Clear existing schedules and add new ones
-            System.out.println(course.getSchedules());
             course.getSchedules().clear();
             for (ScheduleRequest scheduleRequest : request.getSchedules()) {
                 Schedule schedule = new Schedule();
@@ -122,19 +222,34 @@ public class CourseService {
                 schedule.setRoom(scheduleRequest.getRoom());
                 course.getSchedules().add(schedule);
             }
+            // Schedules are synced as part of their course, so the course row must change too
+            course.setUpdatedAt(LocalDateTime.now());
         }
         
-        return convertToDTO(courseRepository.save(course));
+        Course saved = saveUnique(course);
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.COURSE_CODE, saved.getCode());
+        CourseDTO updated = dtoMapper.toCourseDTO(saved);
+        eventPublisher.publish(DomainEventTypes.COURSE, updated.getId(), DomainEventTypes.COURSE_UPDATED, updated);
+        return updated;
     }
     
     @Transactional
     public void deleteCourse(Long id) {
         Course course = courseRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+            .orElseThrow(() -> ErrorCode.COURSE_NOT_FOUND.exception("Course not found with id: " + id));
+        
+        // Who to tell, captured now: once the event is dispatched the enrollments are gone
+        List<Long> audience = new ArrayList<>();
+        course.getStudents().forEach(student -> audience.add(student.getId()));
+        if (course.getTeacher() != null) {
+            audience.add(course.getTeacher().getId());
+        }
         
         // Remove the course from all enrolled students
         course.getStudents().forEach(student -> {
             student.getEnrolledCourses().remove(course);
+            eventPublisher.publish(DomainEventTypes.STUDENT, student.getId(), DomainEventTypes.STUDENT_UNENROLLED,
+                Map.of("studentId", student.getId(), "courseId", course.getId()));
         });
         course.getStudents().clear();
         
@@ -143,34 +258,17 @@ public class CourseService {
         course.getAssignments().clear();
         
         courseRepository.delete(course);
+        tombstoneLog.recordDeleted(DomainEventTypes.COURSE, id);
+        eventPublisher.publish(DomainEventTypes.COURSE, id, DomainEventTypes.COURSE_DELETED,
+            Map.of("id", id, "code", course.getCode(), "audience", audience));
     }
-
-    private CourseDTO convertToDTO(Course course) {
-        CourseDTO dto = new CourseDTO();
-        dto.setId(course.getId());
-        dto.setName(course.getName());
-        dto.setCode(course.getCode());
-        dto.setTeacherId(course.getTeacher().getTeacherId());
-        dto.setDescription(course.getDescription());
-        dto.setCreatedAt(course.getCreatedAt());
-        dto.setUpdatedAt(course.getUpdatedAt());
-
-        // Convert schedules
-        if (course.getSchedules() != null) {
-            Set<ScheduleDTO> scheduleDTOs = course.getSchedules().stream()
-                .map(schedule -> {
-                    ScheduleDTO scheduleDTO = new ScheduleDTO();
-                    scheduleDTO.setId(schedule.getId());
-                    scheduleDTO.setDay(schedule.getDay());
-                    scheduleDTO.setStartTime(schedule.getStartTime());
-                    scheduleDTO.setEndTime(schedule.getEndTime());
-                    scheduleDTO.setRoom(schedule.getRoom());
-                    return scheduleDTO;
-                })
-                .collect(Collectors.toSet());
-            dto.setSchedules(scheduleDTOs);
+    
+    // Flushes so a unique-key violation surfaces here and can be reported precisely
+    private Course saveUnique(Course course) {
+        try {
+            return courseRepository.saveAndFlush(course);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e);
         }
-
-        return dto;
     }
 }
@@ -0,0 +1,188 @@
+package com.sms.service;
+
+import com.sms.dto.ExamTimetableJobDTO;
+import com.sms.dto.ScheduledExamDTO;
+import com.sms.dto.request.ExamTimetableRequest;
+import com.sms.exception.ApiException;
+import com.sms.exception.ErrorCode;
+import com.sms.timetable.ExamProblem;
+import com.sms.timetable.ExamProblemLoader;
+import com.sms.timetable.ExamSolution;
+import com.sms.timetable.ExamTimetableJob;
+import com.sms.timetable.ExamTimetableSolver;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exam timetables are solved in the background, one at a time: submitting returns a job
+ * at once, and the job reports the best timetable found after each search round until
+ * it completes, is cancelled or runs out of time. Only the most recent jobs are kept.
+ */
+@Service
+public class ExamTimetableService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExamTimetableService.class);
+
+    private static final int MAX_EXAM_DAYS = 120;
+
+    @Autowired
+    private ExamProblemLoader problemLoader;
+
+    @Value("${sms.timetable.threads:0}")
+    private int threads;
+
+    @Value("${sms.timetable.rounds:100}")
+    private int rounds;
+
+    @Value("${sms.timetable.moves-per-round:200000}")
+    private int movesPerRound;
+
+    @Value("${sms.timetable.max-seconds:600}")
+    private long maxSeconds;
+
+    @Value("${sms.timetable.retained-jobs:20}")
+    private int retainedJobs;
+
+    private final Map<String, ExamTimetableJob> jobs = new LinkedHashMap<>();
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exam-timetable");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ExamTimetableJobDTO submit(ExamTimetableRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw ErrorCode.INVALID_PARAMETER.exception("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= MAX_EXAM_DAYS) {
+            throw ErrorCode.INVALID_PARAMETER.exception("The exam period can be at most " + MAX_EXAM_DAYS + " days");
+        }
+        ExamTimetableJob job = new ExamTimetableJob(UUID.randomUUID().toString(), request);
+        synchronized (jobs) {
+            Iterator<ExamTimetableJob> oldest = jobs.values().iterator();
+            while (jobs.size() >= retainedJobs && oldest.hasNext()) {
+                if (oldest.next().isDone()) {
+                    oldest.remove();
+                }
+            }
+            jobs.put(job.getId(), job);
+        }
+        runner.execute(() -> run(job));
+        return toDTO(job, false);
+    }
+
+    public ExamTimetableJobDTO getJob(String id) {
+        return toDTO(findJob(id), true);
+    }
+
+    public ExamTimetableJobDTO cancel(String id) {
+        ExamTimetableJob job = findJob(id);
+        job.requestCancel();
+        return toDTO(job, false);
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (jobs) {
+            jobs.values().forEach(ExamTimetableJob::requestCancel);
+        }
+        runner.shutdownNow();
+    }
+
+    private ExamTimetableJob findJob(String id) {
+        ExamTimetableJob job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        if (job == null) {
+            throw ErrorCode.RESOURCE_NOT_FOUND.exception("Exam timetable job not found: " + id);
+        }
+        return job;
+    }
+
+    private void run(ExamTimetableJob job) {
+        if (job.isCancelRequested()) {
+            job.finished(ExamTimetableJob.Status.CANCELLED, null);
+            return;
+        }
+        job.started();
+        long start = System.currentTimeMillis();
+        try {
+            ExamProblem problem = problemLoader.load(job.getRequest());
+            int solverThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            ExamTimetableSolver solver = new ExamTimetableSolver(problem, solverThreads, rounds, movesPerRound, maxSeconds);
+            ExamSolution solution = solver.solve(job::progressed, job::isCancelRequested);
+            job.progressed(job.isCancelRequested() ? job.getRound() : rounds, rounds, solution);
+            logger.info("Exam timetable {}: {} courses, {} students, {} slots, {} clashes, {} back-to-back in {} ms",
+                    job.getId(), problem.courseCount(), problem.studentCount(), problem.slotCount(),
+                    solution.getClashes(), solution.getBackToBack(), System.currentTimeMillis() - start);
+            if (job.isCancelRequested()) {
+                job.finished(ExamTimetableJob.Status.CANCELLED, null);
+            } else {
+                job.finished(ExamTimetableJob.Status.COMPLETED, solution.isFeasible() ? null
+                        : "No clash-free timetable found; add slots or rooms and try again");
+            }
+        } catch (ApiException e) {
+            job.finished(ExamTimetableJob.Status.FAILED, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finished(ExamTimetableJob.Status.CANCELLED, null);
+        } catch (Exception e) {
+            logger.error("Exam timetable {} failed", job.getId(), e);
+            job.finished(ExamTimetableJob.Status.FAILED, "Exam timetable could not be solved");
+        }
+    }
+
+    private ExamTimetableJobDTO toDTO(ExamTimetableJob job, boolean withExams) {
+        ExamTimetableJobDTO dto = new ExamTimetableJobDTO();
+        dto.setId(job.getId());
+        dto.setStatus(job.getStatus().name());
+        dto.setRound(job.getRound());
+        dto.setRounds(job.getRounds());
+        dto.setProgress(job.getStatus() == ExamTimetableJob.Status.COMPLETED ? 1.0
+                : job.getRounds() == 0 ? 0.0 : (double) job.getRound() / job.getRounds());
+        dto.setMessage(job.getMessage());
+        dto.setSubmittedAt(job.getSubmittedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+
+        ExamSolution best = job.getBest();
+        if (best != null) {
+            dto.setFeasible(best.isFeasible());
+            dto.setClashes(best.getClashes());
+            dto.setBackToBackPairs(best.getBackToBack());
+            if (withExams) {
+                dto.setStudentsWithBackToBack(best.studentsWithBackToBack());
+                dto.setExams(exams(best));
+            }
+        }
+        return dto;
+    }
+
+    private static List<ScheduledExamDTO> exams(ExamSolution solution) {
+        ExamProblem problem = solution.getProblem();
+        String[][] rooms = solution.assignRooms();
+        List<ScheduledExamDTO> exams = new ArrayList<>(problem.courseCount());
+        for (int c = 0; c < problem.courseCount(); c++) {
+            exams.add(new ScheduledExamDTO(problem.courseId(c), problem.courseCode(c),
+                    problem.slotStart(solution.slotOf(c)), problem.courseSize(c), Arrays.asList(rooms[c])));
+        }
+        exams.sort((a, b) -> a.getStartsAt().compareTo(b.getStartsAt()));
+        return exams;
+    }
+}
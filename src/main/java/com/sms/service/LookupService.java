@@ -0,0 +1,30 @@
+package com.sms.service;
+
+import com.sms.dto.LookupMatchDTO;
+import com.sms.exception.ErrorCode;
+import com.sms.search.PrefixLookupIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class LookupService {
+
+    private static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private PrefixLookupIndex prefixLookupIndex;
+
+    public List<LookupMatchDTO> lookupPrefix(String prefix, String type, int limit) {
+        PrefixLookupIndex.LookupType typeFilter = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                typeFilter = PrefixLookupIndex.LookupType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw ErrorCode.INVALID_PARAMETER.exception("Unknown lookup type: " + type);
+            }
+        }
+        return prefixLookupIndex.lookup(prefix, typeFilter, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
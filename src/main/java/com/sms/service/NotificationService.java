@@ -0,0 +1,61 @@
+package com.sms.service;
+
+import com.sms.dto.NotificationDTO;
+import com.sms.dto.response.CursorPage;
+import com.sms.exception.ErrorCode;
+import com.sms.model.Notification;
+import com.sms.repository.NotificationRepository;
+import com.sms.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class NotificationService {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    public CursorPage<NotificationDTO> getInbox(Long before, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<NotificationDTO> rows = notificationRepository
+                .findInbox(currentUserId(), before == null ? Long.MAX_VALUE : before, PageRequest.of(0, pageSize + 1))
+                .stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize, NotificationDTO::getId);
+    }
+
+    public long getUnreadCount() {
+        return notificationRepository.countByUserIdAndReadAtIsNull(currentUserId());
+    }
+
+    public void markRead(Long id) {
+        Long userId = currentUserId();
+        if (notificationRepository.markRead(id, userId, LocalDateTime.now()) == 0
+                && notificationRepository.findById(id).filter(n -> n.getUserId().equals(userId)).isEmpty()) {
+            throw ErrorCode.RESOURCE_NOT_FOUND.exception("Notification not found with id: " + id);
+        }
+    }
+
+    public int markAllRead() {
+        return notificationRepository.markAllRead(currentUserId(), LocalDateTime.now());
+    }
+
+    private NotificationDTO toDTO(Notification notification) {
+        return new NotificationDTO(notification.getId(), notification.getType(), notification.getReferenceId(),
+                notification.getTitle(), notification.getMessage(), notification.getCreatedAt(),
+                notification.getReadAt() != null);
+    }
+
+    private static Long currentUserId() {
+        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext()
+                .getAuthentication().getPrincipal();
+        return userDetails.getId();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sms.service;
+
+import com.sms.dto.SearchResultDTO;
+import com.sms.dto.response.PageResponse;
+import com.sms.exception.ErrorCode;
+import com.sms.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    public PageResponse<SearchResultDTO> search(String query, String type, int page, int size) {
+        SearchIndex.DocumentType typeFilter = null;
+        if (type != null && !type.isBlank()) {
+            try {
+                typeFilter = SearchIndex.DocumentType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw ErrorCode.INVALID_PARAMETER.exception("Unknown search type: " + type);
+            }
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        SearchIndex.SearchHits hits = searchIndex.search(query, typeFilter, pageNumber, pageSize);
+        return new PageResponse<>(hits.getResults(), pageNumber, pageSize, hits.getTotal());
+    }
+}
@@ -1,39 +1,65 @@
 package com.sms.service;
 
-import com.sms.dto.CourseDTO;
-import com.sms.dto.ScheduleDTO;
+import com.sms.batch.RequestLoaders;
 import com.sms.dto.StudentDTO;
-import com.sms.dto.TeacherDTO;
 import com.sms.dto.request.StudentRegistrationRequest;
-import com.sms.model.Course;
-import com.sms.model.Schedule;
+import com.sms.dto.response.BatchResult;
+import com.sms.dto.response.CursorPage;
+import com.sms.events.DomainEventPublisher;
+import com.sms.events.DomainEventTypes;
+import com.sms.exception.ErrorCode;
+import com.sms.exception.UniqueConstraints;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseFieldQuery;
+import com.sms.mapper.DtoMapper;
 import com.sms.model.Student;
 import com.sms.model.User;
 import com.sms.repository.StudentRepository;
+import com.sms.uniqueness.UniqueKeyGuard;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class StudentService {
 
     @Autowired
     private StudentRepository studentRepository;
+    
+    @Autowired
+    private DtoMapper dtoMapper;
+
+    @Autowired
+    private UniqueKeyGuard uniqueKeyGuard;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private RequestLoaders requestLoaders;
+
+    @Autowired
+    private SparseFieldQuery sparseFieldQuery;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
 
+    @Transactional
     public StudentDTO registerStudent(StudentRegistrationRequest request) {
-        if (studentRepository.existsByStudentId(request.getStudentId())) {
-            throw new RuntimeException("Student ID is already taken");
-        }
+        uniqueKeyGuard.rejectIfTaken(UniqueKeyGuard.KeyType.EMAIL, request.getEmail());
+        uniqueKeyGuard.rejectIfTaken(UniqueKeyGuard.KeyType.STUDENT_ID, request.getStudentId());
 
         Student student = new Student();
         student.setName(request.getFirstName() + " " + request.getLastName());
@@ -46,139 +72,103 @@ public class StudentService {
         student.setYear(request.getYear());
         student.setEnrolledCourses(new HashSet<>());
 
-        return convertToDTO(studentRepository.save(student));
+        StudentDTO saved = dtoMapper.toStudentDTO(saveUnique(student));
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.EMAIL, saved.getEmail());
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.STUDENT_ID, saved.getStudentId());
+        eventPublisher.publish(DomainEventTypes.STUDENT, saved.getId(), DomainEventTypes.STUDENT_REGISTERED, saved);
+        return saved;
     }
 
     public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(this::convertToDTO)
+        return dtoMapper.mapList(studentRepository.findAllWithCourses(), dtoMapper::toStudentDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<StudentDTO> getStudentsPage(Long after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Long> ids = studentRepository.findIdsByIdGreaterThan(after == null ? 0L : after, PageRequest.of(0, pageSize + 1));
+        List<Student> students = ids.isEmpty() ? List.of() : studentRepository.findWithCoursesByIdIn(ids).stream()
+                .sorted(Comparator.comparing(Student::getId))
                 .collect(Collectors.toList());
+        List<StudentDTO> rows = dtoMapper.mapList(students, dtoMapper::toStudentDTO);
+        return CursorPage.of(rows, pageSize, StudentDTO::getId);
+    }
+
+    // Enrolled courses can only come from loaded students; every other field is read as columns
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getStudentFields(FieldSelection fields) {
+        if (fields.needsEntities()) {
+            return fields.selectAll(getAllStudents());
+        }
+        return sparseFieldQuery.list(fields, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getStudentFieldsPage(FieldSelection fields, Long after, Integer limit) {
+        if (fields.needsEntities()) {
+            return fields.selectPage(getStudentsPage(after, limit));
+        }
+        return sparseFieldQuery.page(fields, after, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamStudents(Consumer<StudentDTO> sink) {
+        try (Stream<StudentRepository.StudentRow> rows = studentRepository.streamAllRows()) {
+            rows.forEach(row -> sink.accept(dtoMapper.toStudentDTO(row)));
+        }
     }
 
     @Transactional(readOnly = true)
     public Optional<StudentDTO> getStudentById(Long id) {
         return studentRepository.findById(id)
-                .map(this::convertToDTO);
+                .map(dtoMapper::toStudentDTO);
     }
 
     public Optional<StudentDTO> getStudentByStudentId(String studentId) {
         return studentRepository.findByStudentId(studentId)
-                .map(this::convertToDTO);
+                .map(dtoMapper::toStudentDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public BatchResult<StudentDTO> getStudentsBatch(List<Long> ids, List<String> studentIds) {
+        BatchResult.checkKeyCount(ids, studentIds);
+        return new BatchResult<StudentDTO>()
+                .add(ids, requestLoaders.studentsById().loadMany(ids), dtoMapper::toStudentDTO)
+                .add(studentIds, requestLoaders.studentsByStudentId().loadMany(studentIds), dtoMapper::toStudentDTO);
     }
 
     @Transactional(readOnly = true)
     public Optional<StudentDTO> getStudentByIdWithCourses(Long id) {
-        System.out.println("Fetching student with courses, ID: " + id);
         return studentRepository.findStudentWithCoursesById(id)
-                .map(student -> {
-                    // No need for manual initialization as the query properly loads everything
-                    if (student.getEnrolledCourses() != null) {
-                        // Just logging for debugging
-                        student.getEnrolledCourses().forEach(course -> {
-                            System.out.println("Course " + course.getId() + " - " + course.getName());
-                            System.out.println("Schedule count: " +
-                                    (course.getSchedules() != null ? course.getSchedules().size() : "0"));
-
-                            if (course.getSchedules() != null) {
-                                course.getSchedules().forEach(schedule -> {
-                                    System.out.println("  Schedule ID: " + schedule.getId() +
-                                            ", Day: " + schedule.getDay() +
-                                            ", Room: " + schedule.getRoom());
-                                });
-                            }
-                        });
-                    }
-                    return convertToDTO(student);
-                });
+                .map(dtoMapper::toStudentDTO);
     }
 
     public boolean existsByStudentId(String studentId) {
         return studentRepository.existsByStudentId(studentId);
     }
 
+    @Transactional
     public StudentDTO updateStudent(Long id, StudentRegistrationRequest request) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
-
-        if (!student.getStudentId().equals(request.getStudentId()) &&
-                studentRepository.existsByStudentId(request.getStudentId())) {
-            throw new RuntimeException("Student ID is already taken");
-        }
+                .orElseThrow(() -> ErrorCode.STUDENT_NOT_FOUND.exception("Student not found with id: " + id));
 
         student.setName(request.getFirstName() + " " + request.getLastName());
         student.setStudentId(request.getStudentId());
         student.setProgram(request.getProgram());
         student.setYear(request.getYear());
 
-        return convertToDTO(studentRepository.save(student));
+        StudentDTO saved = dtoMapper.toStudentDTO(saveUnique(student));
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.STUDENT_ID, saved.getStudentId());
+        eventPublisher.publish(DomainEventTypes.STUDENT, saved.getId(), DomainEventTypes.STUDENT_UPDATED, saved);
+        return saved;
     }
 
-    private StudentDTO convertToDTO(Student student) {
-        StudentDTO dto = new StudentDTO();
-        dto.setId(student.getId());
-        dto.setName(student.getName());
-        dto.setEmail(student.getEmail());
-        dto.setRole(student.getRole());
-        dto.setStatus(student.getStatus());
-        dto.setCreatedAt(student.getCreatedAt());
-        dto.setUpdatedAt(student.getUpdatedAt());
-        dto.setStudentId(student.getStudentId());
-        dto.setProgram(student.getProgram());
-        dto.setYear(student.getYear());
-
-        // Debug logging
-        System.out.println("Student courses before conversion: " +
-                (student.getEnrolledCourses() != null ?
-                        student.getEnrolledCourses().size() : "null"));
-
-        Set<CourseDTO> courseDTOs = new HashSet<>();
-
-        if (student.getEnrolledCourses() != null) {
-            for (Course course : student.getEnrolledCourses()) {
-                CourseDTO courseDTO = new CourseDTO();
-                courseDTO.setId(course.getId());
-                courseDTO.setCode(course.getCode());
-                courseDTO.setName(course.getName());
-                courseDTO.setDescription(course.getDescription());
-                courseDTO.setCreatedAt(course.getCreatedAt());
-                courseDTO.setUpdatedAt(course.getUpdatedAt());
-
-                // Handle teacher
-                if (course.getTeacher() != null) {
-                    TeacherDTO teacherDTO = new TeacherDTO();
-                    teacherDTO.setId(course.getTeacher().getId());
-                    teacherDTO.setName(course.getTeacher().getName());
-                    teacherDTO.setTeacherId(course.getTeacher().getTeacherId());
-                    teacherDTO.setDepartment(course.getTeacher().getDepartment());
-                    courseDTO.setTeacherId(course.getTeacher().getTeacherId());
-                }
-
-                // Handle schedules - THE CRUCIAL PART
-                Set<ScheduleDTO> scheduleDTOs = new HashSet<>();
-                if (course.getSchedules() != null) {
-                    System.out.println("Converting schedules for course " + course.getId() +
-                            " - found " + course.getSchedules().size() + " schedules");
-
-                    for (Schedule schedule : course.getSchedules()) {
-                        System.out.println("Processing schedule: " + schedule.getId() +
-                                ", Day: " + schedule.getDay() +
-                                ", Room: " + schedule.getRoom());
-
-                        ScheduleDTO scheduleDTO = new ScheduleDTO();
-                        scheduleDTO.setId(schedule.getId());
-                        scheduleDTO.setDay(schedule.getDay());
-                        scheduleDTO.setStartTime(schedule.getStartTime());
-                        scheduleDTO.setEndTime(schedule.getEndTime());
-                        scheduleDTO.setRoom(schedule.getRoom());
-                        scheduleDTOs.add(scheduleDTO);
-                    }
-                }
-                courseDTO.setSchedules(scheduleDTOs);
-                courseDTOs.add(courseDTO);
-            }
+    // Flushes so a unique-key violation surfaces here and can be reported precisely
+    private Student saveUnique(Student student) {
+        try {
+            return studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e);
         }
-
-        dto.setEnrolledCourses(courseDTOs);
-        return dto;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.sms.service;
+
+import com.sms.dto.SimilarSubmissionPairDTO;
+import com.sms.dto.SimilarSubmissionsDTO;
+import com.sms.exception.ErrorCode;
+import com.sms.repository.AssignmentRepository;
+import com.sms.similarity.MinHash;
+import com.sms.similarity.NearDuplicateFinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Near-duplicate submissions of an assignment, from the signatures the
+ * {@link com.sms.similarity.SubmissionSignatureScanner} keeps. Only signatures computed
+ * for a submission's current file take part; the rest are reported as pending.
+ */
+@Service
+public class SubmissionSimilarityService {
+
+    private static final String SIGNATURES_SQL = "SELECT s.id, s.student_id, st.student_id, g.signature, " +
+            "g.submission_id IS NOT NULL AND g.file_path = s.file_path AND g.submission_date = s.submission_date " +
+            "FROM submissions s JOIN students st ON st.id = s.student_id " +
+            "LEFT JOIN submission_signatures g ON g.submission_id = s.id " +
+            "WHERE s.assignment_id = ? AND s.file_path IS NOT NULL ORDER BY s.id";
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sms.similarity.min-similarity:0.5}")
+    private double defaultMinSimilarity;
+
+    @Value("${sms.similarity.max-pairs:1000}")
+    private int maxPairs;
+
+    @Transactional(readOnly = true)
+    public SimilarSubmissionsDTO getSimilarSubmissions(Long assignmentId, Double minSimilarity) {
+        double threshold = minSimilarity == null ? defaultMinSimilarity : minSimilarity;
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw ErrorCode.INVALID_PARAMETER.exception("minSimilarity must be greater than 0 and at most 1");
+        }
+        if (!assignmentRepository.existsById(assignmentId)) {
+            throw ErrorCode.RESOURCE_NOT_FOUND.exception("Assignment not found with id: " + assignmentId);
+        }
+
+        List<Long> submissionIds = new ArrayList<>();
+        List<Long> studentIds = new ArrayList<>();
+        List<String> studentNumbers = new ArrayList<>();
+        List<int[]> signatures = new ArrayList<>();
+        int[] pendingAndUnreadable = new int[2];
+        jdbcTemplate.query(SIGNATURES_SQL, rs -> {
+            if (!rs.getBoolean(5)) {
+                pendingAndUnreadable[0]++;
+                return;
+            }
+            int[] signature = MinHash.decode(rs.getBytes(4));
+            if (signature == null) {
+                pendingAndUnreadable[1]++;
+                return;
+            }
+            submissionIds.add(rs.getLong(1));
+            studentIds.add(rs.getLong(2));
+            studentNumbers.add(rs.getString(3));
+            signatures.add(signature);
+        }, assignmentId);
+
+        long[] owners = studentIds.stream().mapToLong(Long::longValue).toArray();
+        List<NearDuplicateFinder.Match> matches = NearDuplicateFinder.find(
+                signatures.toArray(new int[0][]), owners, threshold);
+        List<SimilarSubmissionPairDTO> pairs = new ArrayList<>(Math.min(matches.size(), maxPairs));
+        for (NearDuplicateFinder.Match match : matches.subList(0, Math.min(matches.size(), maxPairs))) {
+            pairs.add(new SimilarSubmissionPairDTO(
+                    submissionIds.get(match.first), studentNumbers.get(match.first),
+                    submissionIds.get(match.second), studentNumbers.get(match.second), match.similarity));
+        }
+        return new SimilarSubmissionsDTO(assignmentId, threshold, signatures.size(),
+                pendingAndUnreadable[0], pendingAndUnreadable[1], matches.size() > maxPairs, pairs);
+    }
+}
@@ -0,0 +1,170 @@
+package com.sms.service;
+
+import com.sms.dto.CourseDTO;
+import com.sms.dto.ScheduleDTO;
+import com.sms.dto.SyncAssignmentDTO;
+import com.sms.dto.SyncChangesDTO;
+import com.sms.dto.SyncSubmissionDTO;
+import com.sms.dto.TombstoneDTO;
+import com.sms.model.User;
+import com.sms.security.UserDetailsImpl;
+import com.sms.sync.SyncTombstoneLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta sync for offline clients: the courses (with schedules), assignments and
+ * submissions in the caller's scope whose {@code updated_at} is past the watermark, plus
+ * tombstones for what was deleted or left the scope. A student's scope is their enrolled
+ * courses and own submissions, a teacher's the courses they teach and every submission to
+ * them, an admin's everything.
+ *
+ * A course a student was just enrolled in counts as changed for them, along with its
+ * assignments; likewise a teacher gets all assignments and submissions of a course whose
+ * row changed, which covers being made its teacher.
+ */
+@Service
+public class SyncService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String COURSE_COLUMNS =
+            "SELECT c.id, c.name, c.code, c.description, t.teacher_id, c.created_at, c.updated_at ";
+    private static final String ASSIGNMENT_COLUMNS =
+            "SELECT a.id, a.course_id, a.title, a.description, a.due_date, a.total_points, a.updated_at ";
+    private static final String SUBMISSION_COLUMNS =
+            "SELECT s.id, s.assignment_id, s.student_id, s.submission_date, s.grade, s.feedback, s.updated_at ";
+
+    private static final Map<User.Role, String> COURSES = Map.of(
+            User.Role.STUDENT, COURSE_COLUMNS + "FROM student_courses sc JOIN courses c ON c.id = sc.course_id " +
+                    "LEFT JOIN teachers t ON t.id = c.teacher_id " +
+                    "WHERE sc.student_id = :user AND (c.updated_at > :since OR sc.enrolled_at > :since)",
+            User.Role.TEACHER, COURSE_COLUMNS + "FROM courses c LEFT JOIN teachers t ON t.id = c.teacher_id " +
+                    "WHERE c.teacher_id = :user AND c.updated_at > :since",
+            User.Role.ADMIN, COURSE_COLUMNS + "FROM courses c LEFT JOIN teachers t ON t.id = c.teacher_id " +
+                    "WHERE c.updated_at > :since");
+
+    private static final Map<User.Role, String> ASSIGNMENTS = Map.of(
+            User.Role.STUDENT, ASSIGNMENT_COLUMNS + "FROM student_courses sc JOIN assignments a ON a.course_id = sc.course_id " +
+                    "WHERE sc.student_id = :user AND (a.updated_at > :since OR sc.enrolled_at > :since)",
+            User.Role.TEACHER, ASSIGNMENT_COLUMNS + "FROM courses c JOIN assignments a ON a.course_id = c.id " +
+                    "WHERE c.teacher_id = :user AND (a.updated_at > :since OR c.updated_at > :since)",
+            User.Role.ADMIN, ASSIGNMENT_COLUMNS + "FROM assignments a WHERE a.updated_at > :since");
+
+    private static final Map<User.Role, String> SUBMISSIONS = Map.of(
+            User.Role.STUDENT, SUBMISSION_COLUMNS + "FROM submissions s " +
+                    "WHERE s.student_id = :user AND s.updated_at > :since",
+            User.Role.TEACHER, SUBMISSION_COLUMNS + "FROM courses c JOIN assignments a ON a.course_id = c.id " +
+                    "JOIN submissions s ON s.assignment_id = a.id " +
+                    "WHERE c.teacher_id = :user AND (s.updated_at > :since OR c.updated_at > :since)",
+            User.Role.ADMIN, SUBMISSION_COLUMNS + "FROM submissions s WHERE s.updated_at > :since");
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private SyncTombstoneLog tombstoneLog;
+
+    @Value("${sms.sync.overlap-ms:5000}")
+    private long overlapMs;
+
+    /**
+     * Runs on the primary (not a read-only transaction) so a lagging replica cannot hide
+     * rows from before the watermark it hands out. One transaction keeps the lists
+     * consistent with each other.
+     */
+    @Transactional
+    public SyncChangesDTO getChanges(Long since) {
+        UserDetailsImpl user = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime from = since == null ? null : toDateTime(since);
+        boolean full = from == null || from.isBefore(tombstoneLog.horizon());
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("user", user.getId())
+                .addValue("since", full ? EPOCH : from);
+
+        List<CourseDTO> courses = namedJdbcTemplate.query(COURSES.get(user.getRole()), params, SyncService::toCourse);
+        attachSchedules(courses);
+        List<SyncAssignmentDTO> assignments = namedJdbcTemplate.query(ASSIGNMENTS.get(user.getRole()), params,
+                (rs, i) -> new SyncAssignmentDTO(rs.getLong("id"), rs.getLong("course_id"), rs.getString("title"),
+                        rs.getString("description"), dateTime(rs, "due_date"), rs.getInt("total_points"),
+                        dateTime(rs, "updated_at")));
+        List<SyncSubmissionDTO> submissions = namedJdbcTemplate.query(SUBMISSIONS.get(user.getRole()), params,
+                (rs, i) -> new SyncSubmissionDTO(rs.getLong("id"), rs.getLong("assignment_id"), rs.getLong("student_id"),
+                        dateTime(rs, "submission_date"), (Integer) rs.getObject("grade"), rs.getString("feedback"),
+                        dateTime(rs, "updated_at")));
+        List<TombstoneDTO> deleted = full ? List.of() : namedJdbcTemplate.query(
+                "SELECT entity_type, entity_id, deleted_at FROM sync_tombstones " +
+                        "WHERE deleted_at > :since AND (user_id IS NULL OR user_id = :user) ORDER BY id",
+                params,
+                (rs, i) -> new TombstoneDTO(rs.getString("entity_type"), rs.getLong("entity_id"), dateTime(rs, "deleted_at")));
+
+        // Handed out a little early, so rows written just before it but committed after are
+        // picked up next time; clients upsert by id, so the overlap only repeats a few rows
+        long watermark = toEpochMilli(startedAt) - overlapMs;
+        return new SyncChangesDTO(watermark, full, courses, assignments, submissions, deleted);
+    }
+
+    // One query for the schedules of every changed course; a course is always sent whole
+    private void attachSchedules(List<CourseDTO> courses) {
+        if (courses.isEmpty()) {
+            return;
+        }
+        Map<Long, CourseDTO> byId = new LinkedHashMap<>();
+        for (CourseDTO course : courses) {
+            course.setSchedules(new HashSet<>());
+            byId.put(course.getId(), course);
+        }
+        namedJdbcTemplate.query(
+                "SELECT id, course_id, day, start_time, end_time, room FROM schedules WHERE course_id IN (:ids)",
+                new MapSqlParameterSource("ids", byId.keySet()),
+                rs -> {
+                    byId.get(rs.getLong("course_id")).getSchedules().add(new ScheduleDTO(rs.getLong("id"),
+                            DayOfWeek.valueOf(rs.getString("day")), rs.getTime("start_time").toLocalTime(),
+                            rs.getTime("end_time").toLocalTime(), rs.getString("room")));
+                });
+    }
+
+    private static CourseDTO toCourse(ResultSet rs, int rowNum) throws SQLException {
+        CourseDTO course = new CourseDTO();
+        course.setId(rs.getLong("id"));
+        course.setName(rs.getString("name"));
+        course.setCode(rs.getString("code"));
+        course.setDescription(rs.getString("description"));
+        course.setTeacherId(rs.getString("teacher_id"));
+        course.setCreatedAt(dateTime(rs, "created_at"));
+        course.setUpdatedAt(dateTime(rs, "updated_at"));
+        return course;
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static LocalDateTime toDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,18 +1,35 @@
 package com.sms.service;
 
+import com.sms.batch.RequestLoaders;
 import com.sms.dto.TeacherDTO;
 import com.sms.dto.request.TeacherRegistrationRequest;
+import com.sms.dto.response.BatchResult;
+import com.sms.dto.response.CursorPage;
+import com.sms.exception.ErrorCode;
+import com.sms.exception.UniqueConstraints;
+import com.sms.fields.FieldSelection;
+import com.sms.fields.SparseFieldQuery;
+import com.sms.mapper.DtoMapper;
 import com.sms.model.Teacher;
 import com.sms.model.User;
 import com.sms.repository.TeacherRepository;
+import com.sms.singleflight.SingleFlight;
+import com.sms.singleflight.SingleFlightRegistry;
+import com.sms.uniqueness.UniqueKeyGuard;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TeacherService {
@@ -20,13 +37,33 @@ public class TeacherService {
     @Autowired
     private TeacherRepository teacherRepository;
     
+    @Autowired
+    private DtoMapper dtoMapper;
+    
+    @Autowired
+    private UniqueKeyGuard uniqueKeyGuard;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private RequestLoaders requestLoaders;
+    
+    @Autowired
+    private SparseFieldQuery sparseFieldQuery;
+    
+    // Concurrent reads of the same teacher run one query and share its DTO
+    private final SingleFlight<Long, Optional<TeacherDTO>> teacherById;
+    private final SingleFlight<String, Optional<TeacherDTO>> teacherByTeacherId;
+    
+    public TeacherService(SingleFlightRegistry singleFlightRegistry) {
+        this.teacherById = singleFlightRegistry.create("teacher.by_id");
+        this.teacherByTeacherId = singleFlightRegistry.create("teacher.by_teacher_id");
+    }
+    
     public TeacherDTO registerTeacher(TeacherRegistrationRequest request) {
-        if (teacherRepository.existsByTeacherId(request.getTeacherId())) {
-            throw new RuntimeException("Teacher ID is already taken");
-        }
+        uniqueKeyGuard.rejectIfTaken(UniqueKeyGuard.KeyType.EMAIL, request.getEmail());
+        uniqueKeyGuard.rejectIfTaken(UniqueKeyGuard.KeyType.TEACHER_ID, request.getTeacherId());
         
         Teacher teacher = new Teacher();
         teacher.setName(request.getFirstName() + " " + request.getLastName());
@@ -38,23 +75,57 @@ public class TeacherService {
         teacher.setDepartment(request.getDepartment());
         teacher.setAssignedCourses(new HashSet<>());
         
-        return convertToDTO(teacherRepository.save(teacher));
+        TeacherDTO saved = dtoMapper.toTeacherDTO(saveUnique(teacher));
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.EMAIL, saved.getEmail());
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.TEACHER_ID, saved.getTeacherId());
+        return saved;
     }
     
     public List<TeacherDTO> getAllTeachers() {
-        return teacherRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return dtoMapper.mapFlat(teacherRepository.findAll(), dtoMapper::toTeacherDTO);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<TeacherDTO> getTeachersPage(Long after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<TeacherDTO> rows = dtoMapper.mapFlat(teacherRepository
+            .findByIdGreaterThan(after == null ? 0L : after, PageRequest.of(0, pageSize + 1, Sort.by("id"))), dtoMapper::toTeacherDTO);
+        return CursorPage.of(rows, pageSize, TeacherDTO::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTeacherFields(FieldSelection fields) {
+        return sparseFieldQuery.list(fields, null, null);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<Map<String, Object>> getTeacherFieldsPage(FieldSelection fields, Long after, Integer limit) {
+        return sparseFieldQuery.page(fields, after, limit);
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamTeachers(Consumer<TeacherDTO> sink) {
+        try (Stream<TeacherRepository.TeacherRow> rows = teacherRepository.streamAllRows()) {
+            rows.forEach(row -> sink.accept(dtoMapper.toTeacherDTO(row)));
+        }
     }
     
     public Optional<TeacherDTO> getTeacherById(Long id) {
-        return teacherRepository.findById(id)
-            .map(this::convertToDTO);
+        return teacherById.execute(id, () -> teacherRepository.findById(id)
+            .map(dtoMapper::toTeacherDTO));
     }
     
     public Optional<TeacherDTO> getTeacherByTeacherId(String teacherId) {
-        return teacherRepository.findByTeacherId(teacherId)
-            .map(this::convertToDTO);
+        return teacherByTeacherId.execute(teacherId, () -> teacherRepository.findByTeacherId(teacherId)
+            .map(dtoMapper::toTeacherDTO));
+    }
+    
+    @Transactional(readOnly = true)
+    public BatchResult<TeacherDTO> getTeachersBatch(List<Long> ids, List<String> teacherIds) {
+        BatchResult.checkKeyCount(ids, teacherIds);
+        return new BatchResult<TeacherDTO>()
+            .add(ids, requestLoaders.teachersById().loadMany(ids), dtoMapper::toTeacherDTO)
+            .add(teacherIds, requestLoaders.teachersByTeacherId().loadMany(teacherIds), dtoMapper::toTeacherDTO);
     }
     
     public boolean existsByTeacherId(String teacherId) {
@@ -63,33 +134,23 @@ public class TeacherService {
     
     public TeacherDTO updateTeacher(Long id, TeacherRegistrationRequest request) {
         Teacher teacher = teacherRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Teacher not found with id: " + id));
-        
-        if (!teacher.getTeacherId().equals(request.getTeacherId()) && 
-            teacherRepository.existsByTeacherId(request.getTeacherId())) {
-            throw new RuntimeException("Teacher ID is already taken");
-        }
+            .orElseThrow(() -> ErrorCode.TEACHER_NOT_FOUND.exception("Teacher not found with id: " + id));
         
         teacher.setName(request.getFirstName() + " " + request.getLastName());
         teacher.setTeacherId(request.getTeacherId());
         teacher.setDepartment(request.getDepartment());
         
-        return convertToDTO(teacherRepository.save(teacher));
+        TeacherDTO saved = dtoMapper.toTeacherDTO(saveUnique(teacher));
+        uniqueKeyGuard.add(UniqueKeyGuard.KeyType.TEACHER_ID, saved.getTeacherId());
+        return saved;
     }
     
-    private TeacherDTO convertToDTO(Teacher teacher) {
-        TeacherDTO dto = new TeacherDTO();
-        dto.setId(teacher.getId());
-        dto.setName(teacher.getName());
-        dto.setEmail(teacher.getEmail());
-        dto.setRole(teacher.getRole());
-        dto.setStatus(teacher.getStatus());
-        dto.setCreatedAt(teacher.getCreatedAt());
-        dto.setUpdatedAt(teacher.getUpdatedAt());
-        dto.setTeacherId(teacher.getTeacherId());
-        dto.setDepartment(teacher.getDepartment());
-        // We don't set assignedCourses here to avoid circular references
-        // This would be handled by a separate DTO mapper in a real application
-        return dto;
+    // Flushes so a unique-key violation surfaces here and can be reported precisely
+    private Teacher saveUnique(Teacher teacher) {
+        try {
+            return teacherRepository.saveAndFlush(teacher);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e);
+        }
     }
 }
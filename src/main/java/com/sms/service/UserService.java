@@ -2,22 +2,29 @@ package com.sms.service;
 
 import com.sms.dto.UserDTO;
 import com.sms.dto.request.LoginRequest;
+import com.sms.dto.response.CursorPage;
 import com.sms.dto.response.JwtResponse;
+import com.sms.exception.ErrorCode;
+import com.sms.mapper.DtoMapper;
 import com.sms.model.User;
 import com.sms.repository.UserRepository;
 import com.sms.security.JwtUtils;
 import com.sms.security.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class UserService {
@@ -25,6 +32,9 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private DtoMapper dtoMapper;
+    
     @Autowired
     private AuthenticationManager authenticationManager;
     
@@ -54,19 +64,32 @@ public class UserService {
     }
     
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return dtoMapper.mapFlat(userRepository.findAll(), dtoMapper::toUserDTO);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<UserDTO> getUsersPage(Long after, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        List<UserDTO> rows = dtoMapper.mapFlat(userRepository
+            .findByIdGreaterThan(after == null ? 0L : after, PageRequest.of(0, pageSize + 1, Sort.by("id"))), dtoMapper::toUserDTO);
+        return CursorPage.of(rows, pageSize, UserDTO::getId);
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamUsers(Consumer<UserDTO> sink) {
+        try (Stream<UserRepository.UserRow> rows = userRepository.streamAllRows()) {
+            rows.forEach(row -> sink.accept(dtoMapper.toUserDTO(row)));
+        }
     }
     
     public Optional<UserDTO> getUserById(Long id) {
         return userRepository.findById(id)
-            .map(this::convertToDTO);
+            .map(dtoMapper::toUserDTO);
     }
     
     public Optional<UserDTO> getUserByEmail(String email) {
         return userRepository.findByEmail(email)
-            .map(this::convertToDTO);
+            .map(dtoMapper::toUserDTO);
     }
     
     public boolean existsByEmail(String email) {
@@ -75,21 +98,9 @@ public class UserService {
     
     public UserDTO updateUserStatus(Long id, User.Status status) {
         User user = userRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+            .orElseThrow(() -> ErrorCode.USER_NOT_FOUND.exception("User not found with id: " + id));
         
         user.setStatus(status);
-        return convertToDTO(userRepository.save(user));
-    }
-    
-    private UserDTO convertToDTO(User user) {
-        UserDTO dto = new UserDTO();
-        dto.setId(user.getId());
-        dto.setName(user.getName());
-        dto.setEmail(user.getEmail());
-        dto.setRole(user.getRole());
-        dto.setStatus(user.getStatus());
-        dto.setCreatedAt(user.getCreatedAt());
-        dto.setUpdatedAt(user.getUpdatedAt());
-        return dto;
+        return dtoMapper.toUserDTO(userRepository.save(user));
     }
 }
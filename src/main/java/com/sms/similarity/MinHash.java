@@ -0,0 +1,142 @@
+package com.sms.similarity;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * MinHash signatures over word shingles. A text is split into lower-cased runs of letters
+ * and digits, every {@value #SHINGLE_WORDS} consecutive words form a shingle, and the
+ * signature keeps, for each of {@value #SIGNATURE_LENGTH} hash functions, the smallest
+ * hash of any shingle. The share of positions where two signatures agree estimates the
+ * Jaccard similarity of their shingle sets.
+ *
+ * Signatures are stored, so the shingle size, the signature length and the hash
+ * functions must not change without clearing {@code submission_signatures}.
+ */
+public final class MinHash {
+
+    public static final int SHINGLE_WORDS = 5;
+    public static final int SIGNATURE_LENGTH = 128;
+    public static final int SIGNATURE_BYTES = SIGNATURE_LENGTH * Integer.BYTES;
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    // h(x) = (a * x + b) >>> 32 with odd a: one multiply per hash function and shingle
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] INCREMENTS = new long[SIGNATURE_LENGTH];
+
+    static {
+        long seed = 0x5EED5EED5EED5EEDL;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            seed += 0x9E3779B97F4A7C15L;
+            MULTIPLIERS[i] = mix(seed) | 1;
+            seed += 0x9E3779B97F4A7C15L;
+            INCREMENTS[i] = mix(seed);
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /** The distinct shingle hashes of a text, sorted; a text shorter than a shingle is one shingle. */
+    public static long[] shingles(CharSequence text) {
+        long[] window = new long[SHINGLE_WORDS];
+        long[] hashes = new long[Math.max(16, text.length() / 8)];
+        int count = 0;
+        int words = 0;
+        long word = FNV_OFFSET;
+        boolean inWord = false;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word = (word ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (!inWord) {
+                continue;
+            }
+            window[words % SHINGLE_WORDS] = word;
+            words++;
+            word = FNV_OFFSET;
+            inWord = false;
+            if (words >= SHINGLE_WORDS) {
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                hashes[count++] = shingle(window, words - SHINGLE_WORDS, SHINGLE_WORDS);
+            }
+        }
+        if (words > 0 && words < SHINGLE_WORDS) {
+            hashes[count++] = shingle(window, 0, words);
+        }
+        Arrays.sort(hashes, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || hashes[i] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, distinct);
+    }
+
+    /** The signature of a set of shingles, or null for an empty one. */
+    public static int[] signature(long[] shingles) {
+        if (shingles.length == 0) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) ((MULTIPLIERS[i] * shingle + INCREMENTS[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /** Estimated Jaccard similarity: the share of positions where the signatures agree. */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / SIGNATURE_LENGTH;
+    }
+
+    public static byte[] encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length != SIGNATURE_BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static long shingle(long[] window, int first, int words) {
+        long hash = 0;
+        for (int i = 0; i < words; i++) {
+            hash = hash * 31 + window[(first + i) % SHINGLE_WORDS];
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
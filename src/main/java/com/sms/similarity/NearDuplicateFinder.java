@@ -0,0 +1,144 @@
+package com.sms.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds pairs of similar signatures by locality-sensitive hashing instead of comparing
+ * every pair. Each signature is cut into bands of equal width; two signatures become
+ * candidates when they agree on every position of at least one band, and only candidates
+ * are compared in full. With b bands of r positions, a pair of Jaccard similarity s
+ * becomes a candidate with probability 1 - (1 - s^r)^b, which rises steeply around
+ * (1/b)^(1/r). The widest bands that still catch a pair at the requested similarity
+ * with probability {@value #MIN_RECALL} are used, so a high threshold compares few
+ * candidates and a low one finds what it asks for at the cost of more comparisons.
+ *
+ * Bands are bucketed by sorting: each signature's band hash is packed with its index
+ * into one long, and runs of equal hashes are the buckets.
+ */
+public final class NearDuplicateFinder {
+
+    static final double MIN_RECALL = 0.95;
+
+    private NearDuplicateFinder() {
+    }
+
+    /**
+     * Pairs of signatures at least {@code minSimilarity} alike, most similar first.
+     * Signatures with the same owner are never paired; {@code owners} may be null.
+     */
+    public static List<Match> find(int[][] signatures, long[] owners, double minSimilarity) {
+        int rows = rowsPerBand(minSimilarity);
+        int bands = MinHash.SIGNATURE_LENGTH / rows;
+        int n = signatures.length;
+        long[] keys = new long[n];
+        LongList candidates = new LongList();
+        for (int band = 0; band < bands; band++) {
+            int from = band * rows;
+            for (int i = 0; i < n; i++) {
+                keys[i] = ((long) bandHash(signatures[i], from, rows) << 32) | i;
+            }
+            Arrays.sort(keys);
+            int runStart = 0;
+            for (int i = 1; i <= n; i++) {
+                if (i < n && keys[i] >>> 32 == keys[runStart] >>> 32) {
+                    continue;
+                }
+                for (int a = runStart; a < i; a++) {
+                    int first = (int) keys[a];
+                    for (int b = a + 1; b < i; b++) {
+                        int second = (int) keys[b];
+                        if (owners == null || owners[first] != owners[second]) {
+                            // Keys sort by index within a run, so first < second
+                            candidates.add(((long) first << 32) | second);
+                        }
+                    }
+                }
+                runStart = i;
+            }
+            // The same pair tends to collide in many bands; keep the list distinct as it grows
+            candidates.distinct();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            long pair = candidates.get(i);
+            int first = (int) (pair >>> 32);
+            int second = (int) pair;
+            double similarity = MinHash.similarity(signatures[first], signatures[second]);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(first, second, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble((Match match) -> match.similarity).reversed());
+        return matches;
+    }
+
+    static int rowsPerBand(double minSimilarity) {
+        for (int rows = 16; rows > 1; rows /= 2) {
+            double recall = 1 - Math.pow(1 - Math.pow(minSimilarity, rows), MinHash.SIGNATURE_LENGTH / rows);
+            if (recall >= MIN_RECALL) {
+                return rows;
+            }
+        }
+        return 1;
+    }
+
+    private static int bandHash(int[] signature, int from, int rows) {
+        long hash = from;
+        for (int i = from; i < from + rows; i++) {
+            hash = hash * 0x100000001B3L + signature[i];
+        }
+        return (int) MinHash.mix(hash);
+    }
+
+    public static final class Match {
+        public final int first;
+        public final int second;
+        public final double similarity;
+
+        Match(int first, int second, double similarity) {
+            this.first = first;
+            this.second = second;
+            this.similarity = similarity;
+        }
+    }
+
+    private static final class LongList {
+        private long[] values = new long[256];
+        private int size;
+        private int distinctUpTo;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void distinct() {
+            if (size == distinctUpTo) {
+                return;
+            }
+            Arrays.sort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[i] != values[distinct - 1]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            size = distinct;
+            distinctUpTo = distinct;
+        }
+    }
+}
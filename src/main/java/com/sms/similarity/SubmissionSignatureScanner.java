@@ -0,0 +1,214 @@
+package com.sms.similarity;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * Keeps a MinHash signature in {@code submission_signatures} for every submitted file.
+ *
+ * Each scan signs the submissions that have no signature yet, or whose file path or
+ * submission date changed since theirs was computed; everything else is left alone, so
+ * a scan costs as much as the new work. The first scan checks every submission, later
+ * ones only those updated since the previous scan. Files are read, shingled and hashed
+ * on a fork/join pool of {@code sms.similarity.parallelism} threads, a batch at a time,
+ * and each batch is written back with one batched upsert.
+ *
+ * A file that cannot be read, lies outside the upload directory or holds no words gets
+ * a row without a signature, so it is not retried until it is submitted again. Files are
+ * read as UTF-8 text, the first {@code sms.similarity.max-file-bytes} of them.
+ */
+@Component
+public class SubmissionSignatureScanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionSignatureScanner.class);
+
+    private static final String PENDING_SQL = "SELECT s.id, s.file_path, s.submission_date FROM submissions s " +
+            "LEFT JOIN submission_signatures g ON g.submission_id = s.id " +
+            "WHERE s.file_path IS NOT NULL AND s.id > ? AND (g.submission_id IS NULL " +
+            "OR g.file_path <> s.file_path OR g.submission_date <> s.submission_date) ";
+    private static final String UPSERT_SQL = "INSERT INTO submission_signatures " +
+            "(submission_id, file_path, submission_date, shingles, signature, signed_at) VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE file_path = VALUES(file_path), submission_date = VALUES(submission_date), " +
+            "shingles = VALUES(shingles), signature = VALUES(signature), signed_at = VALUES(signed_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sms.similarity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.similarity.upload-dir:.}")
+    private String uploadDir;
+
+    @Value("${sms.similarity.parallelism:2}")
+    private int parallelism;
+
+    @Value("${sms.similarity.batch-size:200}")
+    private int batchSize;
+
+    @Value("${sms.similarity.max-file-bytes:10485760}")
+    private int maxFileBytes;
+
+    @Value("${sms.similarity.overlap-ms:5000}")
+    private long overlapMs;
+
+    private Path root;
+    private ForkJoinPool pool;
+    private LocalDateTime watermark;
+
+    @PostConstruct
+    void start() {
+        root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        pool = new ForkJoinPool(Math.max(1, parallelism), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("submission-signer-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    @Scheduled(initialDelayString = "${sms.similarity.initial-delay-ms:20000}",
+            fixedDelayString = "${sms.similarity.scan-interval-ms:30000}")
+    public synchronized void scan() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            int signed = 0;
+            long after = 0;
+            while (true) {
+                List<Pending> batch = findPending(after);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                save(sign(batch));
+                signed += batch.size();
+                after = batch.get(batch.size() - 1).id;
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            watermark = startedAt.minusNanos(overlapMs * 1_000_000);
+            if (signed > 0) {
+                logger.info("Signed {} submissions in {} ms", signed, System.currentTimeMillis() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Submission signature scan failed", e);
+        }
+    }
+
+    private List<Pending> findPending(long after) {
+        List<Pending> batch = new ArrayList<>();
+        String sql = PENDING_SQL + (watermark != null ? "AND s.updated_at > ? " : "") + "ORDER BY s.id LIMIT ?";
+        Object[] args = watermark != null
+                ? new Object[]{after, Timestamp.valueOf(watermark), batchSize}
+                : new Object[]{after, batchSize};
+        jdbcTemplate.query(sql, rs -> {
+            batch.add(new Pending(rs.getLong(1), rs.getString(2), rs.getTimestamp(3)));
+        }, args);
+        return batch;
+    }
+
+    private List<Signed> sign(List<Pending> batch) throws Exception {
+        List<Callable<Signed>> tasks = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            tasks.add(() -> sign(pending));
+        }
+        List<Signed> signed = new ArrayList<>(batch.size());
+        for (Future<Signed> future : pool.invokeAll(tasks)) {
+            signed.add(future.get());
+        }
+        return signed;
+    }
+
+    private Signed sign(Pending pending) {
+        Path file;
+        try {
+            file = root.resolve(pending.filePath).normalize();
+        } catch (InvalidPathException e) {
+            file = null;
+        }
+        if (file == null || !file.startsWith(root)) {
+            logger.warn("Submission {} file is not in the upload directory: {}", pending.id, pending.filePath);
+            return new Signed(pending, 0, null);
+        }
+        byte[] content;
+        try (InputStream in = Files.newInputStream(file)) {
+            content = in.readNBytes(maxFileBytes);
+        } catch (IOException e) {
+            logger.debug("Submission {} file cannot be read: {}", pending.id, e.getMessage());
+            return new Signed(pending, 0, null);
+        }
+        long[] shingles = MinHash.shingles(new String(content, StandardCharsets.UTF_8));
+        int[] signature = MinHash.signature(shingles);
+        return new Signed(pending, shingles.length, signature != null ? MinHash.encode(signature) : null);
+    }
+
+    private void save(List<Signed> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (ps, signed) -> {
+            ps.setLong(1, signed.pending.id);
+            ps.setString(2, signed.pending.filePath);
+            ps.setTimestamp(3, signed.pending.submissionDate);
+            ps.setInt(4, signed.shingles);
+            ps.setBytes(5, signed.signature);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private static final class Pending {
+        private final long id;
+        private final String filePath;
+        private final Timestamp submissionDate;
+
+        Pending(long id, String filePath, Timestamp submissionDate) {
+            this.id = id;
+            this.filePath = filePath;
+            this.submissionDate = submissionDate;
+        }
+    }
+
+    private static final class Signed {
+        private final Pending pending;
+        private final int shingles;
+        private final byte[] signature;
+
+        Signed(Pending pending, int shingles, byte[] signature) {
+            this.pending = pending;
+            this.shingles = shingles;
+            this.signature = signature;
+        }
+    }
+}
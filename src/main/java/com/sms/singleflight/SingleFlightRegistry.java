@@ -0,0 +1,33 @@
+package com.sms.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates named {@link SingleFlight} groups and their metrics:
+ * {@code sms.singleflight.calls{name, outcome=executed|shared}} and
+ * {@code sms.singleflight.in.flight{name}}.
+ *
+ * Meters are tagged by lookup, not by key: course codes and teacher IDs are unbounded,
+ * and the executed/shared split per lookup is what shows whether coalescing pays off.
+ */
+@Component
+public class SingleFlightRegistry {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public <K, V> SingleFlight<K, V> create(String name) {
+        Counter executed = meterRegistry.counter("sms.singleflight.calls", "name", name, "outcome", "executed");
+        Counter shared = meterRegistry.counter("sms.singleflight.calls", "name", name, "outcome", "shared");
+        SingleFlight<K, V> group = new SingleFlight<>(executed, shared);
+        Gauge.builder("sms.singleflight.in.flight", group, SingleFlight::inFlight)
+                .description("Keys with a lookup currently running")
+                .tag("name", name)
+                .register(meterRegistry);
+        return group;
+    }
+}
@@ -0,0 +1,69 @@
+package com.sms.sync;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletion log read by delta sync. A row without a user is a delete everyone should apply;
+ * a row with one means the entity left that user's scope (e.g. a course moved to another
+ * teacher) and only they should drop it. Rows are written in the caller's transaction, so
+ * a rolled back delete leaves no tombstone.
+ *
+ * Tombstones are kept for {@code sms.sync.tombstone-retention-days}; a client that has not
+ * synced for longer is sent its whole scope instead of a delta.
+ */
+@Component
+public class SyncTombstoneLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncTombstoneLog.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sms.sync.tombstone-retention-days:30}")
+    private int retentionDays;
+
+    public void recordDeleted(String entityType, long entityId) {
+        record(entityType, entityId, null);
+    }
+
+    public void recordRemovedFor(String entityType, long entityId, long userId) {
+        record(entityType, entityId, userId);
+    }
+
+    /**
+     * Withdraws {@link #recordRemovedFor} tombstones once the entity is back in the user's
+     * scope, so a client that has not synced in between does not drop it again.
+     */
+    public void clearRemovedFor(String entityType, long entityId, long userId) {
+        jdbcTemplate.update("DELETE FROM sync_tombstones WHERE entity_type = ? AND entity_id = ? AND user_id = ?",
+                entityType, entityId, userId);
+    }
+
+    /**
+     * Oldest watermark that can still be answered with a delta.
+     */
+    public LocalDateTime horizon() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${sms.sync.purge-interval-ms:3600000}")
+    public void purge() {
+        int removed = jdbcTemplate.update("DELETE FROM sync_tombstones WHERE deleted_at < ?", horizon());
+        if (removed > 0) {
+            logger.debug("Purged {} sync tombstones", removed);
+        }
+    }
+
+    private void record(String entityType, long entityId, Long userId) {
+        jdbcTemplate.update("INSERT INTO sync_tombstones (entity_type, entity_id, user_id, deleted_at) VALUES (?, ?, ?, ?)",
+                entityType, entityId, userId, LocalDateTime.now());
+    }
+}
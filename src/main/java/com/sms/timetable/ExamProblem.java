@@ -0,0 +1,88 @@
+package com.sms.timetable;
+
+import java.time.LocalDateTime;
+
+/**
+ * An exam timetabling instance, indexed by position rather than by id: courses are
+ * {@code 0..courseCount-1} and slots {@code 0..slotCount-1} in chronological order.
+ *
+ * The student x course matrix is kept twice in compressed sparse row form (courses of
+ * each student, students of each course), and the course conflict graph the solver
+ * searches over is derived from it: {@code adjacent[adjacentStart[c]..adjacentStart[c+1])}
+ * are the courses sharing students with {@code c}, with the number shared in
+ * {@code sharedStudents}.
+ */
+public class ExamProblem {
+
+    final long[] courseIds;
+    final String[] courseCodes;
+    final int[] courseSize;
+    final int[] roomsNeeded;
+
+    final int[] adjacentStart;
+    final int[] adjacent;
+    final int[] sharedStudents;
+
+    final int[] studentStart;
+    final int[] studentCourses;
+
+    final LocalDateTime[] slotStart;
+    final int[] slotDay;
+    final String[] rooms;
+
+    ExamProblem(long[] courseIds, String[] courseCodes, int[] courseSize, int[] roomsNeeded,
+                int[] adjacentStart, int[] adjacent, int[] sharedStudents,
+                int[] studentStart, int[] studentCourses,
+                LocalDateTime[] slotStart, int[] slotDay, String[] rooms) {
+        this.courseIds = courseIds;
+        this.courseCodes = courseCodes;
+        this.courseSize = courseSize;
+        this.roomsNeeded = roomsNeeded;
+        this.adjacentStart = adjacentStart;
+        this.adjacent = adjacent;
+        this.sharedStudents = sharedStudents;
+        this.studentStart = studentStart;
+        this.studentCourses = studentCourses;
+        this.slotStart = slotStart;
+        this.slotDay = slotDay;
+        this.rooms = rooms;
+    }
+
+    public int courseCount() {
+        return courseIds.length;
+    }
+
+    public int slotCount() {
+        return slotStart.length;
+    }
+
+    public int studentCount() {
+        return studentStart.length - 1;
+    }
+
+    public int roomCount() {
+        return rooms.length;
+    }
+
+    public long courseId(int course) {
+        return courseIds[course];
+    }
+
+    public String courseCode(int course) {
+        return courseCodes[course];
+    }
+
+    public int courseSize(int course) {
+        return courseSize[course];
+    }
+
+    public LocalDateTime slotStart(int slot) {
+        return slotStart[slot];
+    }
+
+    /** Consecutive slots on the same day: a student sitting both gets no break between them. */
+    boolean backToBack(int slot, int other) {
+        int gap = slot - other;
+        return (gap == 1 || gap == -1) && slotDay[slot] == slotDay[other];
+    }
+}
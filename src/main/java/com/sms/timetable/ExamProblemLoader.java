@@ -0,0 +1,219 @@
+package com.sms.timetable;
+
+import com.sms.dto.request.ExamTimetableRequest;
+import com.sms.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Reads courses, enrollments and rooms into an {@link ExamProblem}. Rooms are the
+ * distinct rooms used by course schedules, all taken to seat the same number of students;
+ * an exam larger than one room is split across several rooms in the same slot.
+ */
+@Component
+public class ExamProblemLoader {
+
+    private static final int CHUNK_SIZE = 256;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Value("${sms.timetable.room-capacity:60}")
+    private int defaultRoomCapacity;
+
+    @Transactional(readOnly = true)
+    public ExamProblem load(ExamTimetableRequest request) {
+        String[] rooms = jdbcTemplate.queryForList("SELECT DISTINCT room FROM schedules ORDER BY room", String.class)
+                .toArray(new String[0]);
+        if (rooms.length == 0) {
+            throw ErrorCode.BUSINESS_RULE.exception("No rooms found in course schedules");
+        }
+
+        List<LocalDateTime> slotStart = new ArrayList<>();
+        List<Integer> slotDay = new ArrayList<>();
+        TreeSet<LocalTime> times = new TreeSet<>(request.getSlotTimes());
+        int day = 0;
+        for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date.plusDays(1)) {
+            if (!request.isIncludeWeekends()
+                    && (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                continue;
+            }
+            for (LocalTime time : times) {
+                slotStart.add(date.atTime(time));
+                slotDay.add(day);
+            }
+            day++;
+        }
+        if (slotStart.isEmpty()) {
+            throw ErrorCode.INVALID_PARAMETER.exception("The exam period has no days to schedule on");
+        }
+
+        List<Long> ids = new ArrayList<>();
+        List<String> codes = new ArrayList<>();
+        if (request.getCourseIds() == null || request.getCourseIds().isEmpty()) {
+            jdbcTemplate.query("SELECT c.id, c.code FROM courses c " +
+                    "WHERE EXISTS (SELECT 1 FROM student_courses sc WHERE sc.course_id = c.id) ORDER BY c.id", rs -> {
+                ids.add(rs.getLong(1));
+                codes.add(rs.getString(2));
+            });
+        } else {
+            namedJdbcTemplate.query("SELECT id, code FROM courses WHERE id IN (:ids) ORDER BY id",
+                    new MapSqlParameterSource("ids", request.getCourseIds()), rs -> {
+                        ids.add(rs.getLong(1));
+                        codes.add(rs.getString(2));
+                    });
+            if (ids.size() < new TreeSet<>(request.getCourseIds()).size()) {
+                List<Long> missing = new ArrayList<>(new TreeSet<>(request.getCourseIds()));
+                missing.removeAll(ids);
+                throw ErrorCode.COURSE_NOT_FOUND.exception("Courses not found: " + missing);
+            }
+        }
+        long[] courseIds = ids.stream().mapToLong(Long::longValue).toArray();
+        int courses = courseIds.length;
+        if (courses == 0) {
+            throw ErrorCode.BUSINESS_RULE.exception("No courses with enrolled students to examine");
+        }
+
+        // Courses of each student, by student: rows arrive grouped by student_id
+        IntList studentStart = new IntList();
+        IntList studentCourses = new IntList();
+        long[] lastStudent = {Long.MIN_VALUE};
+        jdbcTemplate.query("SELECT student_id, course_id FROM student_courses ORDER BY student_id, course_id", rs -> {
+            int course = Arrays.binarySearch(courseIds, rs.getLong(2));
+            if (course < 0) {
+                return;
+            }
+            long student = rs.getLong(1);
+            if (student != lastStudent[0]) {
+                studentStart.add(studentCourses.size());
+                lastStudent[0] = student;
+            }
+            studentCourses.add(course);
+        });
+        studentStart.add(studentCourses.size());
+        int[] byStudentStart = studentStart.toArray();
+        int[] byStudent = studentCourses.toArray();
+        int students = byStudentStart.length - 1;
+
+        // Students of each course, by course
+        int[] courseStart = new int[courses + 1];
+        for (int course : byStudent) {
+            courseStart[course + 1]++;
+        }
+        for (int c = 0; c < courses; c++) {
+            courseStart[c + 1] += courseStart[c];
+        }
+        int[] byCourse = new int[byStudent.length];
+        int[] fill = Arrays.copyOf(courseStart, courses);
+        for (int s = 0; s < students; s++) {
+            for (int i = byStudentStart[s]; i < byStudentStart[s + 1]; i++) {
+                byCourse[fill[byStudent[i]]++] = s;
+            }
+        }
+
+        int capacity = request.getRoomCapacity() != null ? request.getRoomCapacity() : defaultRoomCapacity;
+        int[] courseSize = new int[courses];
+        int[] roomsNeeded = new int[courses];
+        for (int c = 0; c < courses; c++) {
+            courseSize[c] = courseStart[c + 1] - courseStart[c];
+            roomsNeeded[c] = Math.max(1, (courseSize[c] + capacity - 1) / capacity);
+            if (roomsNeeded[c] > rooms.length) {
+                throw ErrorCode.BUSINESS_RULE.exception("Course " + codes.get(c) + " has " + courseSize[c]
+                        + " students, more than all " + rooms.length + " rooms seat together");
+            }
+        }
+
+        int[][] rows = conflictRows(courses, courseStart, byCourse, byStudentStart, byStudent);
+        int[] adjacentStart = new int[courses + 1];
+        for (int c = 0; c < courses; c++) {
+            adjacentStart[c + 1] = adjacentStart[c] + rows[c].length / 2;
+        }
+        int[] adjacent = new int[adjacentStart[courses]];
+        int[] sharedStudents = new int[adjacentStart[courses]];
+        for (int c = 0; c < courses; c++) {
+            for (int i = 0; i < rows[c].length / 2; i++) {
+                adjacent[adjacentStart[c] + i] = rows[c][2 * i];
+                sharedStudents[adjacentStart[c] + i] = rows[c][2 * i + 1];
+            }
+        }
+
+        return new ExamProblem(courseIds, codes.toArray(new String[0]), courseSize, roomsNeeded,
+                adjacentStart, adjacent, sharedStudents, byStudentStart, byStudent,
+                slotStart.toArray(new LocalDateTime[0]), slotDay.stream().mapToInt(Integer::intValue).toArray(), rooms);
+    }
+
+    /**
+     * For each course, the courses sharing students with it and how many, as interleaved
+     * (course, count) pairs. Courses are split into chunks counted in parallel, each chunk
+     * with its own dense counter array.
+     */
+    private static int[][] conflictRows(int courses, int[] courseStart, int[] byCourse,
+                                        int[] byStudentStart, int[] byStudent) {
+        int[][] rows = new int[courses][];
+        int chunks = (courses + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] counts = new int[courses];
+            int[] touched = new int[courses];
+            int end = Math.min(courses, (chunk + 1) * CHUNK_SIZE);
+            for (int c = chunk * CHUNK_SIZE; c < end; c++) {
+                int size = 0;
+                for (int i = courseStart[c]; i < courseStart[c + 1]; i++) {
+                    int student = byCourse[i];
+                    for (int j = byStudentStart[student]; j < byStudentStart[student + 1]; j++) {
+                        int other = byStudent[j];
+                        if (other != c && counts[other]++ == 0) {
+                            touched[size++] = other;
+                        }
+                    }
+                }
+                Arrays.sort(touched, 0, size);
+                int[] row = new int[size * 2];
+                for (int k = 0; k < size; k++) {
+                    row[2 * k] = touched[k];
+                    row[2 * k + 1] = counts[touched[k]];
+                    counts[touched[k]] = 0;
+                }
+                rows[c] = row;
+            }
+        });
+        return rows;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
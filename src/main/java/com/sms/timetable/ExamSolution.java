@@ -0,0 +1,120 @@
+package com.sms.timetable;
+
+import java.util.Arrays;
+
+/**
+ * A slot for every course of an {@link ExamProblem}, with its score: students sitting two
+ * exams at once and exams that do not fit the rooms are hard violations, and shared
+ * students between exams in consecutive slots of a day are what the search minimizes.
+ */
+public class ExamSolution {
+
+    private final ExamProblem problem;
+    private final int[] slotOf;
+    private final long clashes;
+    private final long roomOverflow;
+    private final long backToBack;
+
+    ExamSolution(ExamProblem problem, int[] slotOf) {
+        this.problem = problem;
+        this.slotOf = slotOf;
+        long clashes = 0;
+        long backToBack = 0;
+        for (int c = 0; c < slotOf.length; c++) {
+            for (int i = problem.adjacentStart[c]; i < problem.adjacentStart[c + 1]; i++) {
+                int other = problem.adjacent[i];
+                if (other > c) {
+                    if (slotOf[other] == slotOf[c]) {
+                        clashes += problem.sharedStudents[i];
+                    } else if (problem.backToBack(slotOf[other], slotOf[c])) {
+                        backToBack += problem.sharedStudents[i];
+                    }
+                }
+            }
+        }
+        int[] used = roomsUsed(problem, slotOf);
+        long overflow = 0;
+        for (int slot = 0; slot < used.length; slot++) {
+            overflow += Math.max(0, used[slot] - problem.roomCount());
+        }
+        this.clashes = clashes;
+        this.roomOverflow = overflow;
+        this.backToBack = backToBack;
+    }
+
+    public ExamProblem getProblem() {
+        return problem;
+    }
+
+    public int slotOf(int course) {
+        return slotOf[course];
+    }
+
+    /** Pairs of exams taken by the same student in the same slot, counted per student. */
+    public long getClashes() {
+        return clashes;
+    }
+
+    /** Rooms short, summed over slots. */
+    public long getRoomOverflow() {
+        return roomOverflow;
+    }
+
+    /** Pairs of back-to-back exams, counted per student sitting both. */
+    public long getBackToBack() {
+        return backToBack;
+    }
+
+    public boolean isFeasible() {
+        return clashes == 0 && roomOverflow == 0;
+    }
+
+    public long studentsWithBackToBack() {
+        long students = 0;
+        int[] slots = new int[16];
+        for (int s = 0; s < problem.studentCount(); s++) {
+            int from = problem.studentStart[s];
+            int count = problem.studentStart[s + 1] - from;
+            if (slots.length < count) {
+                slots = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                slots[i] = slotOf[problem.studentCourses[from + i]];
+            }
+            Arrays.sort(slots, 0, count);
+            for (int i = 1; i < count; i++) {
+                if (problem.backToBack(slots[i - 1], slots[i])) {
+                    students++;
+                    break;
+                }
+            }
+        }
+        return students;
+    }
+
+    /** Rooms for each course: the rooms of each slot handed out in order, largest exams first. */
+    public String[][] assignRooms() {
+        Integer[] order = new Integer[slotOf.length];
+        for (int c = 0; c < order.length; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(problem.courseSize[b], problem.courseSize[a]));
+        int[] next = new int[problem.slotCount()];
+        String[][] rooms = new String[slotOf.length][];
+        for (int c : order) {
+            int slot = slotOf[c];
+            int count = Math.max(0, Math.min(problem.roomsNeeded[c], problem.roomCount() - next[slot]));
+            rooms[c] = Arrays.copyOfRange(problem.rooms, next[slot], next[slot] + count);
+            next[slot] += count;
+        }
+        return rooms;
+    }
+
+    static int[] roomsUsed(ExamProblem problem, int[] slotOf) {
+        int[] used = new int[problem.slotCount()];
+        for (int c = 0; c < slotOf.length; c++) {
+            used[slotOf[c]] += problem.roomsNeeded[c];
+        }
+        return used;
+    }
+}
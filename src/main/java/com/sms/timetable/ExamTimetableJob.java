@@ -0,0 +1,104 @@
+package com.sms.timetable;
+
+import com.sms.dto.request.ExamTimetableRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * A submitted solve and how far it has got. Written by the solving thread, read by
+ * status requests; the best solution is replaced after every search round.
+ */
+public class ExamTimetableJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final ExamTimetableRequest request;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile int round;
+    private volatile int rounds;
+    private volatile ExamSolution best;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    public ExamTimetableJob(String id, ExamTimetableRequest request) {
+        this.id = id;
+        this.request = request;
+    }
+
+    public void started() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void progressed(int round, int rounds, ExamSolution best) {
+        this.round = round;
+        this.rounds = rounds;
+        this.best = best;
+    }
+
+    public void finished(Status status, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public boolean isDone() {
+        Status current = status;
+        return current == Status.COMPLETED || current == Status.FAILED || current == Status.CANCELLED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ExamTimetableRequest getRequest() {
+        return request;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public ExamSolution getBest() {
+        return best;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,410 @@
+package com.sms.timetable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parallel local search over course-to-slot assignments.
+ *
+ * The start is a greedy assignment, most conflicted courses first, each to its cheapest
+ * slot. Every worker thread then improves its own copy in two phases: while any student
+ * has a clash or a slot is short of rooms, a tabu min-conflicts step moves a violating
+ * course to its least violating slot; once the timetable is clash-free, simulated
+ * annealing on back-to-back exams takes over, with moves and swaps that never bring a
+ * clash back. Moves are scored from the moved course's conflict row alone. The search
+ * runs in rounds at falling temperature, and after each round the best timetable so far
+ * replaces the worst worker's, so threads share progress without sharing state.
+ */
+public class ExamTimetableSolver {
+
+    // Greedy start only: a clash or a missing room outweighs any back-to-back
+    private static final long HARD_WEIGHT = 1_000_000;
+    private static final double END_TEMPERATURE = 0.2;
+    private static final int SAMPLE_MOVES = 2000;
+    private static final int REPAIR_PICKS = 50;
+    private static final int TABU_TENURE = 10;
+    // Share of repair steps that may add violations, to get out of local minima
+    private static final double UPHILL_REPAIRS = 0.02;
+
+    public interface ProgressListener {
+        void onRound(int round, int rounds, ExamSolution best);
+    }
+
+    private final ExamProblem problem;
+    private final int threads;
+    private final int rounds;
+    private final int movesPerRound;
+    private final long deadlineNanos;
+
+    public ExamTimetableSolver(ExamProblem problem, int threads, int rounds, int movesPerRound, long maxSeconds) {
+        this.problem = problem;
+        this.threads = Math.max(1, threads);
+        this.rounds = Math.max(1, rounds);
+        this.movesPerRound = movesPerRound;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxSeconds);
+    }
+
+    public ExamSolution solve(ProgressListener listener, BooleanSupplier cancelled) throws InterruptedException {
+        int[] initial = greedy();
+        if (problem.slotCount() < 2 || problem.courseCount() < 2) {
+            ExamSolution solution = new ExamSolution(problem, initial);
+            listener.onRound(rounds, rounds, solution);
+            return solution;
+        }
+
+        Worker[] workers = new Worker[threads];
+        for (int w = 0; w < threads; w++) {
+            workers[w] = new Worker(initial, 0x9E3779B97F4A7C15L * (w + 1));
+        }
+        int[] best = initial.clone();
+        long bestHard = workers[0].hard;
+        long bestSoft = workers[0].soft;
+        double startTemperature = Math.max(END_TEMPERATURE, workers[0].sampleTemperature());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "exam-timetable-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int round = 0; round < rounds; round++) {
+                if (cancelled.getAsBoolean() || System.nanoTime() > deadlineNanos || bestHard + bestSoft == 0) {
+                    break;
+                }
+                double temperature = rounds == 1 ? END_TEMPERATURE
+                        : startTemperature * Math.pow(END_TEMPERATURE / startTemperature, (double) round / (rounds - 1));
+                List<Callable<Void>> tasks = new ArrayList<>(threads);
+                for (Worker worker : workers) {
+                    tasks.add(() -> {
+                        worker.search(movesPerRound, temperature);
+                        return null;
+                    });
+                }
+                for (Future<Void> future : pool.invokeAll(tasks)) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        throw new IllegalStateException("Exam timetable search failed", e.getCause());
+                    }
+                }
+
+                Worker bestWorker = workers[0];
+                Worker worstWorker = workers[0];
+                for (Worker worker : workers) {
+                    if (better(worker.bestHard, worker.bestSoft, bestWorker.bestHard, bestWorker.bestSoft)) {
+                        bestWorker = worker;
+                    }
+                    if (better(worstWorker.hard, worstWorker.soft, worker.hard, worker.soft)) {
+                        worstWorker = worker;
+                    }
+                }
+                if (better(bestWorker.bestHard, bestWorker.bestSoft, bestHard, bestSoft)) {
+                    bestHard = bestWorker.bestHard;
+                    bestSoft = bestWorker.bestSoft;
+                    System.arraycopy(bestWorker.best, 0, best, 0, best.length);
+                }
+                if (worstWorker != bestWorker) {
+                    worstWorker.reset(best, bestHard, bestSoft);
+                }
+                listener.onRound(round + 1, rounds, new ExamSolution(problem, best.clone()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new ExamSolution(problem, best);
+    }
+
+    // Fewer hard violations first, then fewer back-to-backs
+    private static boolean better(long hard, long soft, long otherHard, long otherSoft) {
+        return hard < otherHard || (hard == otherHard && soft < otherSoft);
+    }
+
+    /** Most conflicted courses first, each into the slot that adds least cost given those placed. */
+    private int[] greedy() {
+        int courses = problem.courseCount();
+        int slots = problem.slotCount();
+        long[] degree = new long[courses];
+        Integer[] order = new Integer[courses];
+        for (int c = 0; c < courses; c++) {
+            for (int i = problem.adjacentStart[c]; i < problem.adjacentStart[c + 1]; i++) {
+                degree[c] += problem.sharedStudents[i];
+            }
+            order[c] = c;
+        }
+        Arrays.sort(order, (a, b) -> degree[a] != degree[b] ? Long.compare(degree[b], degree[a])
+                : Integer.compare(problem.courseSize[b], problem.courseSize[a]));
+
+        int[] slotOf = new int[courses];
+        Arrays.fill(slotOf, -1);
+        int[] used = new int[slots];
+        long[] cost = new long[slots];
+        for (int c : order) {
+            for (int slot = 0; slot < slots; slot++) {
+                cost[slot] = HARD_WEIGHT * Math.max(0, used[slot] + problem.roomsNeeded[c] - problem.roomCount());
+            }
+            for (int i = problem.adjacentStart[c]; i < problem.adjacentStart[c + 1]; i++) {
+                int placed = slotOf[problem.adjacent[i]];
+                if (placed >= 0) {
+                    int shared = problem.sharedStudents[i];
+                    cost[placed] += HARD_WEIGHT * shared;
+                    if (placed > 0 && problem.backToBack(placed, placed - 1)) {
+                        cost[placed - 1] += shared;
+                    }
+                    if (placed < slots - 1 && problem.backToBack(placed, placed + 1)) {
+                        cost[placed + 1] += shared;
+                    }
+                }
+            }
+            int chosen = 0;
+            for (int slot = 1; slot < slots; slot++) {
+                if (cost[slot] < cost[chosen] || (cost[slot] == cost[chosen] && used[slot] < used[chosen])) {
+                    chosen = slot;
+                }
+            }
+            slotOf[c] = chosen;
+            used[chosen] += problem.roomsNeeded[c];
+        }
+        return slotOf;
+    }
+
+    private final class Worker {
+        private final int[] slotOf;
+        private final int[] used;
+        private final int[] best;
+        private final SplittableRandom random;
+        private long hard;
+        private long soft;
+        private long bestHard;
+        private long bestSoft;
+        private final long[] sharedIn;
+        private final int[] tabuUntil;
+        private int iteration;
+        // Set by moveDelta
+        private long deltaHard;
+        private long deltaSoft;
+
+        Worker(int[] initial, long seed) {
+            this.slotOf = initial.clone();
+            this.best = initial.clone();
+            this.used = ExamSolution.roomsUsed(problem, slotOf);
+            this.random = new SplittableRandom(seed);
+            this.sharedIn = new long[problem.slotCount()];
+            this.tabuUntil = new int[slotOf.length * problem.slotCount()];
+            ExamSolution solution = new ExamSolution(problem, slotOf);
+            this.hard = solution.getClashes() + solution.getRoomOverflow();
+            this.soft = solution.getBackToBack();
+            this.bestHard = hard;
+            this.bestSoft = soft;
+        }
+
+        void reset(int[] from, long fromHard, long fromSoft) {
+            System.arraycopy(from, 0, slotOf, 0, slotOf.length);
+            System.arraycopy(from, 0, best, 0, best.length);
+            System.arraycopy(ExamSolution.roomsUsed(problem, slotOf), 0, used, 0, used.length);
+            hard = fromHard;
+            soft = fromSoft;
+            bestHard = fromHard;
+            bestSoft = fromSoft;
+        }
+
+        /** Mean uphill cost of random moves that add no hard violation. */
+        double sampleTemperature() {
+            long total = 0;
+            int uphill = 0;
+            for (int i = 0; i < SAMPLE_MOVES; i++) {
+                int course = random.nextInt(slotOf.length);
+                moveDelta(course, slotOf[course], otherSlot(slotOf[course]));
+                if (deltaHard <= 0 && deltaSoft > 0) {
+                    total += deltaSoft;
+                    uphill++;
+                }
+            }
+            return uphill == 0 ? END_TEMPERATURE : (double) total / uphill;
+        }
+
+        void search(int moves, double temperature) {
+            for (int m = 0; m < moves; m++) {
+                if (hard > 0) {
+                    repair();
+                } else {
+                    anneal(temperature);
+                }
+                if (better(hard, soft, bestHard, bestSoft)) {
+                    bestHard = hard;
+                    bestSoft = soft;
+                    System.arraycopy(slotOf, 0, best, 0, best.length);
+                }
+            }
+        }
+
+        /**
+         * Tabu min-conflicts step: a course in a clash or an overfull slot goes to its
+         * least violating slot, and may not return to the slot it left for a while.
+         */
+        private void repair() {
+            iteration++;
+            int courses = slotOf.length;
+            int slots = problem.slotCount();
+            int course = random.nextInt(courses);
+            for (int tries = 0; tries < REPAIR_PICKS && !violating(course); tries++) {
+                course = random.nextInt(courses);
+            }
+            int from = slotOf[course];
+            Arrays.fill(sharedIn, 0);
+            for (int i = problem.adjacentStart[course]; i < problem.adjacentStart[course + 1]; i++) {
+                sharedIn[slotOf[problem.adjacent[i]]] += problem.sharedStudents[i];
+            }
+            int rooms = problem.roomCount();
+            int need = problem.roomsNeeded[course];
+            long fromOverflow = Math.max(0, used[from] - need - rooms) - Math.max(0, used[from] - rooms);
+            long fromSoft = backToBackAt(from);
+            int chosen = -1;
+            long chosenHard = 0;
+            long chosenSoft = 0;
+            int ties = 0;
+            for (int to = 0; to < slots; to++) {
+                if (to == from) {
+                    continue;
+                }
+                long moveHard = sharedIn[to] - sharedIn[from] + fromOverflow
+                        + Math.max(0, used[to] + need - rooms) - Math.max(0, used[to] - rooms);
+                long moveSoft = backToBackAt(to) - fromSoft;
+                boolean tabu = tabuUntil[course * slots + to] > iteration && hard + moveHard >= bestHard;
+                if (tabu) {
+                    continue;
+                }
+                if (chosen < 0 || better(moveHard, moveSoft, chosenHard, chosenSoft)) {
+                    chosen = to;
+                    chosenHard = moveHard;
+                    chosenSoft = moveSoft;
+                    ties = 1;
+                } else if (moveHard == chosenHard && moveSoft == chosenSoft && random.nextInt(++ties) == 0) {
+                    chosen = to;
+                }
+            }
+            if (chosen < 0 || (chosenHard > 0 && random.nextDouble() >= UPHILL_REPAIRS)) {
+                return;
+            }
+            tabuUntil[course * slots + from] = iteration + TABU_TENURE + random.nextInt(TABU_TENURE);
+            move(course, from, chosen);
+            hard += chosenHard;
+            soft += chosenSoft;
+        }
+
+        private boolean violating(int course) {
+            int slot = slotOf[course];
+            if (used[slot] > problem.roomCount()) {
+                return true;
+            }
+            for (int i = problem.adjacentStart[course]; i < problem.adjacentStart[course + 1]; i++) {
+                if (slotOf[problem.adjacent[i]] == slot) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Students shared with courses in the slots either side of the slot on its day
+        private long backToBackAt(int slot) {
+            long shared = 0;
+            if (slot > 0 && problem.backToBack(slot, slot - 1)) {
+                shared += sharedIn[slot - 1];
+            }
+            if (slot < problem.slotCount() - 1 && problem.backToBack(slot, slot + 1)) {
+                shared += sharedIn[slot + 1];
+            }
+            return shared;
+        }
+
+        /** Annealing step on back-to-backs among clash-free timetables: a move or a swap of two courses. */
+        private void anneal(double temperature) {
+            int courses = slotOf.length;
+            int course = random.nextInt(courses);
+            int from = slotOf[course];
+            long moveHard;
+            long moveSoft;
+            if (random.nextInt(4) == 0) {
+                int other = random.nextInt(courses);
+                int to = slotOf[other];
+                if (to == from) {
+                    return;
+                }
+                moveDelta(course, from, to);
+                moveHard = deltaHard;
+                moveSoft = deltaSoft;
+                move(course, from, to);
+                moveDelta(other, to, from);
+                moveHard += deltaHard;
+                moveSoft += deltaSoft;
+                if (!accept(moveHard, moveSoft, temperature)) {
+                    move(course, to, from);
+                    return;
+                }
+                move(other, to, from);
+            } else {
+                int to = otherSlot(from);
+                moveDelta(course, from, to);
+                moveHard = deltaHard;
+                moveSoft = deltaSoft;
+                if (!accept(moveHard, moveSoft, temperature)) {
+                    return;
+                }
+                move(course, from, to);
+            }
+            hard += moveHard;
+            soft += moveSoft;
+        }
+
+        private int otherSlot(int from) {
+            int to = random.nextInt(problem.slotCount() - 1);
+            return to >= from ? to + 1 : to;
+        }
+
+        private boolean accept(long moveHard, long moveSoft, double temperature) {
+            return moveHard <= 0 && (moveSoft <= 0 || random.nextDouble() < Math.exp(-moveSoft / temperature));
+        }
+
+        private void move(int course, int from, int to) {
+            slotOf[course] = to;
+            used[from] -= problem.roomsNeeded[course];
+            used[to] += problem.roomsNeeded[course];
+        }
+
+        private void moveDelta(int course, int from, int to) {
+            long clashes = 0;
+            long backToBack = 0;
+            for (int i = problem.adjacentStart[course]; i < problem.adjacentStart[course + 1]; i++) {
+                int slot = slotOf[problem.adjacent[i]];
+                int shared = problem.sharedStudents[i];
+                if (slot == to) {
+                    clashes += shared;
+                } else if (slot == from) {
+                    clashes -= shared;
+                }
+                if (problem.backToBack(slot, to)) {
+                    backToBack += shared;
+                }
+                if (problem.backToBack(slot, from)) {
+                    backToBack -= shared;
+                }
+            }
+            int rooms = problem.roomCount();
+            int need = problem.roomsNeeded[course];
+            long overflow = Math.max(0, used[from] - need - rooms) + Math.max(0, used[to] + need - rooms)
+                    - Math.max(0, used[from] - rooms) - Math.max(0, used[to] - rooms);
+            deltaHard = clashes + overflow;
+            deltaSoft = backToBack;
+        }
+    }
+}
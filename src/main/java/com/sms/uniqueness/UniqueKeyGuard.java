@@ -0,0 +1,136 @@
+package com.sms.uniqueness;
+
+import com.sms.exception.ErrorCode;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import com.sms.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Optional fast path in front of the unique constraints. Uniqueness is enforced by the
+ * database; this only lets an obvious duplicate be rejected with one indexed lookup
+ * instead of a failed insert and rollback. Keys the filter has never seen go straight
+ * to the insert, so a new registration costs a single write round trip.
+ *
+ * Keys are case-folded to match the database's case-insensitive collation. Deleted keys
+ * stay in the filter and only cost a confirming lookup.
+ */
+@Component
+public class UniqueKeyGuard {
+
+    public enum KeyType {
+        EMAIL, STUDENT_ID, TEACHER_ID, COURSE_CODE
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(UniqueKeyGuard.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Value("${sms.uniqueness.bloom-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.uniqueness.bloom-filter.expected-keys:200000}")
+    private int expectedKeys;
+
+    @Value("${sms.uniqueness.bloom-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Replaced wholesale once warm-up completes; until then no key short-circuits
+    private volatile Map<KeyType, BloomFilter> filters;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Map<KeyType, BloomFilter> loaded = new EnumMap<>(KeyType.class);
+        for (KeyType type : KeyType.values()) {
+            loaded.put(type, new BloomFilter(expectedKeys, falsePositiveRate));
+        }
+        load(loaded.get(KeyType.EMAIL), "SELECT email FROM users");
+        load(loaded.get(KeyType.STUDENT_ID), "SELECT student_id FROM students");
+        load(loaded.get(KeyType.TEACHER_ID), "SELECT teacher_id FROM teachers");
+        load(loaded.get(KeyType.COURSE_CODE), "SELECT code FROM courses");
+        filters = loaded;
+        logger.info("Unique key filters loaded in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Throws the matching "already taken" error when the key probably exists and a lookup
+     * confirms it. Does nothing when the filter has never seen the key.
+     */
+    public void rejectIfTaken(KeyType type, String key) {
+        Map<KeyType, BloomFilter> current = filters;
+        if (current == null || key == null || !current.get(type).mightContain(normalize(key))) {
+            return;
+        }
+        switch (type) {
+            case EMAIL -> {
+                if (userRepository.existsByEmail(key)) {
+                    throw ErrorCode.EMAIL_TAKEN.exception();
+                }
+            }
+            case STUDENT_ID -> {
+                if (studentRepository.existsByStudentId(key)) {
+                    throw ErrorCode.STUDENT_ID_TAKEN.exception();
+                }
+            }
+            case TEACHER_ID -> {
+                if (teacherRepository.existsByTeacherId(key)) {
+                    throw ErrorCode.TEACHER_ID_TAKEN.exception();
+                }
+            }
+            case COURSE_CODE -> {
+                if (courseRepository.existsByCode(key)) {
+                    throw ErrorCode.COURSE_CODE_TAKEN.exception();
+                }
+            }
+        }
+    }
+
+    public void add(KeyType type, String key) {
+        Map<KeyType, BloomFilter> current = filters;
+        if (current != null && key != null) {
+            current.get(type).add(normalize(key));
+        }
+    }
+
+    private void load(BloomFilter filter, String sql) {
+        jdbcTemplate.query(sql, rs -> {
+            String key = rs.getString(1);
+            if (key != null) {
+                filter.add(normalize(key));
+            }
+        });
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
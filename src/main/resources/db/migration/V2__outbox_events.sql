@@ -0,0 +1,16 @@
+-- Transactional outbox for domain events, written in the same transaction as the change
+
+CREATE TABLE outbox_events (
+  id bigint NOT NULL AUTO_INCREMENT,
+  aggregate_type varchar(50) NOT NULL,
+  aggregate_id varchar(100) NOT NULL,
+  event_type varchar(100) NOT NULL,
+  payload mediumtext NOT NULL,
+  created_at datetime(6) NOT NULL,
+  dispatched_at datetime(6) DEFAULT NULL,
+  attempts int NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_outbox_pending ON outbox_events (dispatched_at, id);
+CREATE INDEX idx_outbox_aggregate ON outbox_events (aggregate_type, aggregate_id);
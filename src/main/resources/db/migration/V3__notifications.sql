@@ -0,0 +1,24 @@
+-- In-app notifications, plus the indexes the deadline reminder scans rely on
+
+CREATE TABLE notifications (
+  id bigint NOT NULL AUTO_INCREMENT,
+  user_id bigint NOT NULL,
+  type enum('DEADLINE_REMINDER','GRADE_RELEASED') NOT NULL,
+  reference_id bigint NOT NULL,
+  dedupe_key varchar(120) NOT NULL,
+  title varchar(255) NOT NULL,
+  message varchar(1000) NOT NULL,
+  delivery_status enum('DELIVERED','FAILED','PENDING') NOT NULL,
+  delivery_attempts int NOT NULL,
+  created_at datetime(6) NOT NULL,
+  read_at datetime(6) DEFAULT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_notifications_dedupe UNIQUE (dedupe_key)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_notifications_user ON notifications (user_id, id);
+CREATE INDEX idx_notifications_delivery ON notifications (delivery_status, id);
+
+CREATE INDEX idx_assignments_due_date ON assignments (due_date);
+CREATE INDEX idx_assignments_updated_at ON assignments (updated_at);
+CREATE INDEX idx_submissions_assignment_student ON submissions (assignment_id, student_id);
@@ -0,0 +1,22 @@
+-- Delta sync: enrollment times, the updated_at indexes the change queries scan, and a
+-- log of deletions so clients can drop what they no longer see
+
+ALTER TABLE student_courses ADD COLUMN enrolled_at datetime(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+CREATE INDEX idx_student_courses_enrolled ON student_courses (student_id, enrolled_at);
+
+CREATE INDEX idx_courses_updated_at ON courses (updated_at);
+CREATE INDEX idx_courses_teacher_updated ON courses (teacher_id, updated_at);
+CREATE INDEX idx_submissions_student_updated ON submissions (student_id, updated_at);
+CREATE INDEX idx_submissions_updated_at ON submissions (updated_at);
+
+CREATE TABLE sync_tombstones (
+  id bigint NOT NULL AUTO_INCREMENT,
+  entity_type varchar(30) NOT NULL,
+  entity_id bigint NOT NULL,
+  user_id bigint DEFAULT NULL,
+  deleted_at datetime(6) NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_sync_tombstones_deleted ON sync_tombstones (deleted_at);
+CREATE INDEX idx_sync_tombstones_user ON sync_tombstones (user_id, deleted_at);
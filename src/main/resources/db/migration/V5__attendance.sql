@@ -0,0 +1,32 @@
+-- Attendance: each course numbers its students once, and each held session stores who was
+-- expected and who was present as bitmaps over those numbers
+
+CREATE TABLE attendance_roster (
+  course_id bigint NOT NULL,
+  student_id bigint NOT NULL,
+  roster_index int NOT NULL,
+  PRIMARY KEY (course_id, student_id),
+  CONSTRAINT uk_attendance_roster_index UNIQUE (course_id, roster_index),
+  CONSTRAINT fk_attendance_roster_course FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE CASCADE,
+  CONSTRAINT fk_attendance_roster_student FOREIGN KEY (student_id) REFERENCES students (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_attendance_roster_student ON attendance_roster (student_id);
+
+-- schedule_id is not a foreign key: a course update replaces its schedule rows, and its
+-- attendance history has to survive that
+CREATE TABLE attendance_sessions (
+  id bigint NOT NULL AUTO_INCREMENT,
+  schedule_id bigint NOT NULL,
+  course_id bigint NOT NULL,
+  session_date date NOT NULL,
+  expected varbinary(8192) NOT NULL,
+  present varbinary(8192) NOT NULL,
+  present_count int NOT NULL,
+  updated_at datetime(6) NOT NULL,
+  PRIMARY KEY (id),
+  CONSTRAINT uk_attendance_sessions_schedule_date UNIQUE (schedule_id, session_date),
+  CONSTRAINT fk_attendance_sessions_course FOREIGN KEY (course_id) REFERENCES courses (id) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_attendance_sessions_course_date ON attendance_sessions (course_id, session_date);
@@ -0,0 +1,5 @@
+-- Indexes for the incremental course recommendation refresh, which reads enrollments and
+-- student profile changes since its previous run
+
+CREATE INDEX idx_student_courses_enrolled_at ON student_courses (enrolled_at);
+CREATE INDEX idx_users_role_updated ON users (role, updated_at);
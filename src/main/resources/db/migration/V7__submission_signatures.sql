@@ -0,0 +1,13 @@
+-- Similarity checks: one MinHash signature per submitted file, with the file path and
+-- submission date it was computed for, so a resubmission is signed again and nothing else is
+
+CREATE TABLE submission_signatures (
+  submission_id bigint NOT NULL,
+  file_path varchar(255) NOT NULL,
+  submission_date datetime(6) NOT NULL,
+  shingles int NOT NULL,
+  signature varbinary(512) DEFAULT NULL,
+  signed_at datetime(6) NOT NULL,
+  PRIMARY KEY (submission_id),
+  CONSTRAINT fk_submission_signatures_submission FOREIGN KEY (submission_id) REFERENCES submissions (id) ON DELETE CASCADE
+) ENGINE=InnoDB;